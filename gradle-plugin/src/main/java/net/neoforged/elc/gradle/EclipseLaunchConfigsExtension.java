@@ -0,0 +1,85 @@
+package net.neoforged.elc.gradle;
+
+import org.gradle.api.Action;
+import org.gradle.api.NamedDomainObjectContainer;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * The <code>eclipseLaunchConfigs</code> extension, which declares the launch configs generated by {@link GenerateLaunchConfigs}.
+ *
+ * <pre>
+ * eclipseLaunchConfigs {
+ *     java('Run Client') {
+ *         mainClass = 'com.example.Main'
+ *         vmArgs.add('-Xmx2G')
+ *     }
+ *     gradle('Prepare Run') {
+ *         tasks.add(':prepareRun')
+ *     }
+ *     group('Prepare and Run Client') {
+ *         entry('Prepare Run') { waitForTermination = true }
+ *         entry('Run Client')
+ *     }
+ * }
+ * </pre>
+ */
+public abstract class EclipseLaunchConfigsExtension {
+
+    /**
+     * The default Eclipse project of the launch configs. Defaults to the name of the Gradle project.
+     */
+    public abstract Property<String> getEclipseProject();
+
+    /**
+     * The directory receiving the generated <code>.launch</code> files. Defaults to <code>.eclipse/launches</code> in the project directory.
+     * <p>
+     * The directory is owned by the generation task, and launch files not declared in this extension are removed from it.
+     */
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * The declared Java application launch configs.
+     */
+    public abstract NamedDomainObjectContainer<JavaApplicationSpec> getJavaApplications();
+
+    /**
+     * The declared Gradle launch configs.
+     */
+    public abstract NamedDomainObjectContainer<GradleTaskSpec> getGradleTasks();
+
+    /**
+     * The declared launch groups.
+     */
+    public abstract NamedDomainObjectContainer<LaunchGroupSpec> getLaunchGroups();
+
+    /**
+     * Declares a Java application launch config.
+     *
+     * @param name   The name of the launch config.
+     * @param action Configures the launch config.
+     */
+    public void java(String name, Action<? super JavaApplicationSpec> action) {
+        getJavaApplications().register(name, action);
+    }
+
+    /**
+     * Declares a Gradle launch config.
+     *
+     * @param name   The name of the launch config.
+     * @param action Configures the launch config.
+     */
+    public void gradle(String name, Action<? super GradleTaskSpec> action) {
+        getGradleTasks().register(name, action);
+    }
+
+    /**
+     * Declares a launch group.
+     *
+     * @param name   The name of the launch group.
+     * @param action Configures the launch group.
+     */
+    public void group(String name, Action<? super LaunchGroupSpec> action) {
+        getLaunchGroups().register(name, action);
+    }
+}
@@ -0,0 +1,35 @@
+package net.neoforged.elc.gradle;
+
+import java.util.ArrayList;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+
+/**
+ * Registers the <code>eclipseLaunchConfigs</code> {@linkplain EclipseLaunchConfigsExtension extension} and the <code>generateLaunchConfigs</code> task.
+ */
+public class EclipseLaunchConfigsPlugin implements Plugin<Project> {
+
+    /**
+     * The name of the generation task.
+     */
+    public static final String TASK_NAME = "generateLaunchConfigs";
+
+    @Override
+    public void apply(Project project) {
+        EclipseLaunchConfigsExtension ext = project.getExtensions().create("eclipseLaunchConfigs", EclipseLaunchConfigsExtension.class);
+        ext.getEclipseProject().convention(project.getName());
+        ext.getOutputDirectory().convention(project.getLayout().getProjectDirectory().dir(".eclipse/launches"));
+
+        project.getTasks().register(TASK_NAME, GenerateLaunchConfigs.class, task -> {
+            task.setGroup("ide");
+            task.setDescription("Generates Eclipse launch configurations.");
+            task.getEclipseProject().set(ext.getEclipseProject());
+            task.getOutputDirectory().set(ext.getOutputDirectory());
+            // Declarations may be added after the task is configured, so the containers are only read once the task inputs are queried.
+            task.getJavaApplications().addAll(project.provider(() -> new ArrayList<>(ext.getJavaApplications())));
+            task.getGradleTasks().addAll(project.provider(() -> new ArrayList<>(ext.getGradleTasks())));
+            task.getLaunchGroups().addAll(project.provider(() -> new ArrayList<>(ext.getLaunchGroups())));
+        });
+    }
+}
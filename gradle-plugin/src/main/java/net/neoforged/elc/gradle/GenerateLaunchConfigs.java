@@ -0,0 +1,102 @@
+package net.neoforged.elc.gradle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.InvalidUserDataException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+import net.neoforged.elc.configs.LaunchConfig;
+import net.neoforged.elc.configs.LaunchConfigWriter;
+import net.neoforged.elc.configs.WriteStatistics;
+
+/**
+ * Generates the launch configs declared in {@link EclipseLaunchConfigsExtension}.
+ * <p>
+ * All inputs are plain values, and launch configs refer to paths through Eclipse variables, so the task is relocatable and may be loaded from the build cache.
+ * The task is skipped as up-to-date when no declaration changed. When it runs, only launch files whose content changed are rewritten,
+ * so Eclipse does not reload launch configs that are unaffected, and files of removed declarations are deleted.
+ */
+@CacheableTask
+public abstract class GenerateLaunchConfigs extends DefaultTask {
+
+    /**
+     * The default Eclipse project of the launch configs.
+     */
+    @Input
+    public abstract Property<String> getEclipseProject();
+
+    /**
+     * The Java application launch configs to generate.
+     */
+    @Nested
+    public abstract ListProperty<JavaApplicationSpec> getJavaApplications();
+
+    /**
+     * The Gradle launch configs to generate.
+     */
+    @Nested
+    public abstract ListProperty<GradleTaskSpec> getGradleTasks();
+
+    /**
+     * The launch groups to generate.
+     */
+    @Nested
+    public abstract ListProperty<LaunchGroupSpec> getLaunchGroups();
+
+    /**
+     * The directory receiving the <code>.launch</code> files.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    @TaskAction
+    public void generate() {
+        String project = getEclipseProject().get();
+        Map<String, LaunchConfig> configs = new TreeMap<>();
+        for (JavaApplicationSpec spec : getJavaApplications().get()) add(configs, spec.getName(), spec.toConfig(project));
+        for (GradleTaskSpec spec : getGradleTasks().get()) add(configs, spec.getName(), spec.toConfig(project));
+        for (LaunchGroupSpec spec : getLaunchGroups().get()) add(configs, spec.getName(), spec.toConfig());
+
+        Path directory = getOutputDirectory().get().getAsFile().toPath();
+        WriteStatistics statistics = new WriteStatistics();
+        LaunchConfigWriter writer = new LaunchConfigWriter(name -> directory).skipUnchanged(true).listener(statistics);
+        writer.writeAll(project, configs);
+
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> stale = files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.endsWith(".launch") && !configs.containsKey(name.substring(0, name.length() - ".launch".length()));
+            }).collect(Collectors.toList());
+            for (Path file : stale) {
+                Files.delete(file);
+                deleted++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove stale launch configs from " + directory, e);
+        }
+
+        getLogger().info("Wrote {} launch configs, {} unchanged, {} removed", writer.written(), writer.skipped(), deleted);
+        if (getLogger().isDebugEnabled()) getLogger().debug(statistics.summary(5));
+    }
+
+    private static void add(Map<String, LaunchConfig> configs, String name, LaunchConfig config) {
+        if (configs.putIfAbsent(name, config) != null) throw new InvalidUserDataException("Duplicate launch config name: " + name);
+    }
+}
@@ -0,0 +1,76 @@
+package net.neoforged.elc.gradle;
+
+import org.gradle.api.Named;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Optional;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+
+/**
+ * DSL for a {@link GradleLaunchConfig}.
+ */
+public abstract class GradleTaskSpec implements Named {
+
+    @Input
+    @Override
+    public abstract String getName();
+
+    /**
+     * The Eclipse project of the launch config, used to infer the default working directory. Defaults to {@link EclipseLaunchConfigsExtension#getEclipseProject()}.
+     */
+    @Input
+    @Optional
+    public abstract Property<String> getProject();
+
+    /**
+     * The Gradle tasks to run, in execution order.
+     */
+    @Input
+    public abstract ListProperty<String> getTasks();
+
+    /**
+     * The Gradle arguments.
+     */
+    @Input
+    public abstract ListProperty<String> getArgs();
+
+    /**
+     * The JVM arguments of the Gradle daemon.
+     */
+    @Input
+    public abstract ListProperty<String> getJvmArgs();
+
+    /**
+     * The working directory.
+     */
+    @Input
+    @Optional
+    public abstract Property<String> getWorkingDirectory();
+
+    /**
+     * If Gradle runs in offline mode.
+     */
+    @Input
+    @Optional
+    public abstract Property<Boolean> getOfflineMode();
+
+    /**
+     * The Gradle distribution, such as <code>GRADLE_DISTRIBUTION(WRAPPER)</code>.
+     */
+    @Input
+    @Optional
+    public abstract Property<String> getGradleDistribution();
+
+    GradleLaunchConfig toConfig(String defaultProject) {
+        GradleLaunchConfig.Builder builder = GradleLaunchConfig.builder(getProject().getOrElse(defaultProject))
+            .tasks(getTasks().get().toArray(String[]::new));
+        if (getWorkingDirectory().isPresent()) builder.workingDirectory(getWorkingDirectory().get());
+        if (!getArgs().get().isEmpty()) builder.args(getArgs().get().toArray(String[]::new));
+        if (!getJvmArgs().get().isEmpty()) builder.jvmArgs(getJvmArgs().get().toArray(String[]::new));
+        if (getOfflineMode().isPresent()) builder.offlineMode(getOfflineMode().get());
+        if (getGradleDistribution().isPresent()) builder.gradleDist(getGradleDistribution().get());
+        return builder.build();
+    }
+}
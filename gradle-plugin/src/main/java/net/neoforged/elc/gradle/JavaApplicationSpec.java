@@ -0,0 +1,105 @@
+package net.neoforged.elc.gradle;
+
+import org.gradle.api.Named;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Optional;
+
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+
+/**
+ * DSL for a {@link JavaApplicationLaunchConfig}.
+ * <p>
+ * Paths should be expressed through {@linkplain net.neoforged.elc.EclipseVariables Eclipse variables} rather than absolute paths, so that the generated
+ * launch configs do not depend on the location of the project and may be reused from the build cache.
+ */
+public abstract class JavaApplicationSpec implements Named {
+
+    public JavaApplicationSpec() {
+        getStopInMain().convention(false);
+        getUseArgumentsFile().convention(false);
+    }
+
+    @Input
+    @Override
+    public abstract String getName();
+
+    /**
+     * The Eclipse project of the launch config. Defaults to {@link EclipseLaunchConfigsExtension#getEclipseProject()}.
+     */
+    @Input
+    @Optional
+    public abstract Property<String> getProject();
+
+    /**
+     * The main class to launch.
+     */
+    @Input
+    public abstract Property<String> getMainClass();
+
+    /**
+     * The module containing the main class, if launching a modular application.
+     */
+    @Input
+    @Optional
+    public abstract Property<String> getModuleName();
+
+    /**
+     * The program arguments.
+     */
+    @Input
+    public abstract ListProperty<String> getArgs();
+
+    /**
+     * The VM arguments.
+     */
+    @Input
+    public abstract ListProperty<String> getVmArgs();
+
+    /**
+     * The environment variables.
+     */
+    @Input
+    public abstract MapProperty<String, String> getEnvVars();
+
+    /**
+     * The working directory.
+     */
+    @Input
+    @Optional
+    public abstract Property<String> getWorkingDirectory();
+
+    /**
+     * If the launch stops in the main method when debugging. Defaults to false.
+     */
+    @Input
+    public abstract Property<Boolean> getStopInMain();
+
+    /**
+     * The JRE container path.
+     */
+    @Input
+    @Optional
+    public abstract Property<String> getJreContainer();
+
+    /**
+     * If arguments are passed through an arguments file. Defaults to false.
+     */
+    @Input
+    public abstract Property<Boolean> getUseArgumentsFile();
+
+    JavaApplicationLaunchConfig toConfig(String defaultProject) {
+        JavaApplicationLaunchConfig.Builder builder = JavaApplicationLaunchConfig.builder(getProject().getOrElse(defaultProject))
+            .moduleName(getModuleName().getOrNull())
+            .args(getArgs().get().toArray(String[]::new))
+            .vmArgs(getVmArgs().get().toArray(String[]::new))
+            .workingDirectory(getWorkingDirectory().getOrNull())
+            .stopInMain(getStopInMain().get())
+            .jreContainer(getJreContainer().getOrNull())
+            .useArgumentsFile(getUseArgumentsFile().get());
+        getEnvVars().get().forEach(builder::envVar);
+        return builder.build(getMainClass().get());
+    }
+}
@@ -0,0 +1,142 @@
+package net.neoforged.elc.gradle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.gradle.api.Action;
+import org.gradle.api.Named;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.Optional;
+
+import net.neoforged.elc.configs.LaunchGroup;
+
+/**
+ * DSL for a {@link LaunchGroup}.
+ */
+public abstract class LaunchGroupSpec implements Named {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    @Input
+    @Override
+    public abstract String getName();
+
+    @Inject
+    protected abstract ObjectFactory getObjects();
+
+    /**
+     * The entries of the group, in launch order.
+     */
+    @Nested
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Adds an entry launching another launch config.
+     *
+     * @param name The name of the launched config.
+     */
+    public void entry(String name) {
+        entry(name, entry -> {});
+    }
+
+    /**
+     * Adds an entry launching another launch config.
+     *
+     * @param name   The name of the launched config.
+     * @param action Configures the entry.
+     */
+    public void entry(String name, Action<? super Entry> action) {
+        Entry entry = getObjects().newInstance(Entry.class);
+        entry.getLaunchName().set(name);
+        action.execute(entry);
+        this.entries.add(entry);
+    }
+
+    LaunchGroup toConfig() {
+        LaunchGroup.Builder builder = LaunchGroup.builder();
+        for (Entry entry : this.entries) {
+            builder.entry(entry.toBuilder());
+        }
+        return builder.build();
+    }
+
+    /**
+     * DSL for a {@link LaunchGroup.Entry}. At most one of the post-launch actions may be set.
+     */
+    public abstract static class Entry {
+
+        public Entry() {
+            getEnabled().convention(true);
+            getAdoptIfRunning().convention(false);
+            getMode().convention(LaunchGroup.Mode.INHERIT);
+            getWaitForTermination().convention(false);
+        }
+
+        /**
+         * The name of the launched config.
+         */
+        @Input
+        public abstract Property<String> getLaunchName();
+
+        /**
+         * If the entry is enabled. Defaults to true.
+         */
+        @Input
+        public abstract Property<Boolean> getEnabled();
+
+        /**
+         * If an already running launch is adopted instead of launching again. Defaults to false.
+         */
+        @Input
+        public abstract Property<Boolean> getAdoptIfRunning();
+
+        /**
+         * The launch mode. Defaults to {@link LaunchGroup.Mode#INHERIT}, the mode the group is launched in.
+         */
+        @Input
+        public abstract Property<LaunchGroup.Mode> getMode();
+
+        /**
+         * If the group waits for the launch to terminate before continuing. Defaults to false.
+         */
+        @Input
+        public abstract Property<Boolean> getWaitForTermination();
+
+        /**
+         * The number of seconds the group waits before continuing.
+         */
+        @Input
+        @Optional
+        public abstract Property<Integer> getDelaySeconds();
+
+        /**
+         * A regular expression the group waits for in the output of the launch before continuing.
+         */
+        @Input
+        @Optional
+        public abstract Property<String> getOutputRegexp();
+
+        LaunchGroup.Entry.Builder toBuilder() {
+            int actions = (getWaitForTermination().get() ? 1 : 0) + (getDelaySeconds().isPresent() ? 1 : 0) + (getOutputRegexp().isPresent() ? 1 : 0);
+            if (actions > 1) throw new IllegalArgumentException("Launch group entry " + getLaunchName().get() + " has more than one post-launch action");
+
+            LaunchGroup.Action action = LaunchGroup.Action.NONE;
+            if (getWaitForTermination().get()) action = LaunchGroup.Action.waitForTermination();
+            else if (getDelaySeconds().isPresent()) action = LaunchGroup.Action.delay(getDelaySeconds().get());
+            else if (getOutputRegexp().isPresent()) action = LaunchGroup.Action.outputRegexp(getOutputRegexp().get());
+
+            return LaunchGroup.entry(getLaunchName().get())
+                .enabled(getEnabled().get())
+                .adoptIfRunning(getAdoptIfRunning().get())
+                .mode(getMode().get())
+                .action(action);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package net.neoforged.elc.gradle.tests;
+
+import net.neoforged.elc.gradle.EclipseLaunchConfigsPlugin;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+public class EclipseLaunchConfigsPluginTest {
+    private static final String TASK = ":" + EclipseLaunchConfigsPlugin.TASK_NAME;
+
+    @TempDir
+    Path projectDir;
+
+    @Test
+    public void testGeneratesLaunchConfigs() throws IOException {
+        writeBuild("':prepareRun'", true);
+        final var result = run(TASK);
+        Assertions.assertEquals(TaskOutcome.SUCCESS, result.task(TASK).getOutcome());
+
+        final var launches = this.projectDir.resolve(".eclipse/launches");
+        Assertions.assertTrue(Files.readString(launches.resolve("Run Client.launch")).contains("com.example.Main"));
+        Assertions.assertTrue(Files.readString(launches.resolve("Prepare Run.launch")).contains(":prepareRun"));
+        final var group = Files.readString(launches.resolve("Prepare and Run Client.launch"));
+        Assertions.assertTrue(group.contains("\"org.eclipse.debug.core.launchGroup.0.mode\" value=\"inherit\""), group);
+        Assertions.assertTrue(group.contains("\"org.eclipse.debug.core.launchGroup.0.action\" value=\"WAIT_FOR_TERMINATION\""), group);
+    }
+
+    @Test
+    public void testSkipsUnchangedAndDeletesStaleFiles() throws IOException {
+        writeBuild("':prepareRun'", true);
+        run(TASK);
+        Assertions.assertEquals(TaskOutcome.UP_TO_DATE, run(TASK).task(TASK).getOutcome());
+
+        // Mark the files, so that rewritten files can be told apart from skipped ones.
+        final var launches = this.projectDir.resolve(".eclipse/launches");
+        final var marker = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(launches.resolve("Run Client.launch"), marker);
+        Files.setLastModifiedTime(launches.resolve("Prepare Run.launch"), marker);
+        Files.writeString(launches.resolve("Removed.launch"), "<launchConfiguration/>");
+
+        writeBuild("':prepareRun', ':build'", false);
+        Assertions.assertEquals(TaskOutcome.SUCCESS, run(TASK).task(TASK).getOutcome());
+        Assertions.assertEquals(marker, Files.getLastModifiedTime(launches.resolve("Run Client.launch")));
+        Assertions.assertNotEquals(marker, Files.getLastModifiedTime(launches.resolve("Prepare Run.launch")));
+        Assertions.assertTrue(Files.readString(launches.resolve("Prepare Run.launch")).contains(":build"));
+        Assertions.assertFalse(Files.exists(launches.resolve("Prepare and Run Client.launch")));
+        Assertions.assertFalse(Files.exists(launches.resolve("Removed.launch")));
+    }
+
+    @Test
+    public void testConfigurationCache() throws IOException {
+        writeBuild("':prepareRun'", true);
+        final var first = run("--configuration-cache", TASK);
+        Assertions.assertEquals(TaskOutcome.SUCCESS, first.task(TASK).getOutcome());
+        Assertions.assertTrue(first.getOutput().contains("Configuration cache entry stored"), first.getOutput());
+
+        Files.delete(this.projectDir.resolve(".eclipse/launches/Run Client.launch"));
+        final var second = run("--configuration-cache", TASK);
+        Assertions.assertTrue(second.getOutput().contains("Reusing configuration cache"), second.getOutput());
+        Assertions.assertEquals(TaskOutcome.SUCCESS, second.task(TASK).getOutcome());
+        Assertions.assertTrue(Files.isRegularFile(this.projectDir.resolve(".eclipse/launches/Run Client.launch")));
+    }
+
+    private void writeBuild(String prepareTasks, boolean withGroup) throws IOException {
+        Files.writeString(this.projectDir.resolve("settings.gradle"), "rootProject.name = 'example'\n");
+        Files.writeString(this.projectDir.resolve("build.gradle"), """
+                plugins {
+                    id 'net.neoforged.elc'
+                }
+
+                eclipseLaunchConfigs {
+                    java('Run Client') {
+                        mainClass = 'com.example.Main'
+                        vmArgs.add('-Xmx2G')
+                    }
+                    gradle('Prepare Run') {
+                        tasks.addAll(%s)
+                    }
+                %s}
+                """.formatted(prepareTasks, withGroup ? """
+                    group('Prepare and Run Client') {
+                        entry('Prepare Run') { waitForTermination = true }
+                        entry('Run Client')
+                    }
+                """ : ""));
+    }
+
+    private BuildResult run(String... arguments) {
+        return GradleRunner.create()
+                .withProjectDir(this.projectDir.toFile())
+                .withPluginClasspath()
+                .withArguments(arguments)
+                .forwardOutput()
+                .build();
+    }
+}
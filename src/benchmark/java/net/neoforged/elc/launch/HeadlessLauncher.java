@@ -0,0 +1,141 @@
+package net.neoforged.elc.launch;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import net.neoforged.elc.configs.ClasspathEntry;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+
+/**
+ * Converts a {@link JavaApplicationLaunchConfig} into a process that can be started without Eclipse.
+ * <p>
+ * Eclipse computes the runtime classpath of a project itself, which cannot be reproduced headlessly. As such, only
+ * {@linkplain ClasspathEntry#externalArchive(String) external archive} entries of the config are used, and the rest of the
+ * classpath must be supplied through {@link #classpath(Path...)}.
+ */
+public final class HeadlessLauncher {
+
+    private final VariableResolver resolver;
+    private final List<Path> classpath = new ArrayList<>();
+    private Path javaExecutable = Path.of(System.getProperty("java.home"), "bin", "java");
+
+    /**
+     * Creates a new launcher.
+     *
+     * @param resolver The resolver used for any Eclipse Variables in the launch config.
+     */
+    public HeadlessLauncher(VariableResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Sets the Java executable used to launch configs. Defaults to the executable of the current JVM.
+     *
+     * @param javaExecutable The path to the <code>java</code> executable.
+     * @return this
+     */
+    public HeadlessLauncher javaExecutable(Path javaExecutable) {
+        this.javaExecutable = javaExecutable;
+        return this;
+    }
+
+    /**
+     * Appends entries to the classpath of every launched config.
+     *
+     * @param entries The classpath entries.
+     * @return this
+     */
+    public HeadlessLauncher classpath(Path... entries) {
+        for (Path entry : entries) this.classpath.add(entry);
+        return this;
+    }
+
+    /**
+     * Creates a process builder equivalent to launching the config in Eclipse.
+     *
+     * @param config     The launch config.
+     * @param extraVmArgs Additional JVM arguments, placed after those of the config.
+     * @return A process builder for the config.
+     * @throws IllegalArgumentException if the config uses Eclipse Variables that cannot be resolved headlessly.
+     */
+    public ProcessBuilder command(JavaApplicationLaunchConfig config, List<String> extraVmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(this.javaExecutable.toString());
+        for (String arg : config.vmArguments()) command.addAll(splitArguments(this.resolver.resolve(arg)));
+        command.addAll(extraVmArgs);
+
+        List<String> cp = new ArrayList<>();
+        List<String> mp = new ArrayList<>();
+        for (ClasspathEntry entry : config.classpath()) {
+            if (entry.type() == ClasspathEntry.Type.EXTERNAL_ARCHIVE) cp.add(this.resolver.resolve(entry.path()));
+        }
+        for (ClasspathEntry entry : config.modulepath()) {
+            if (entry.type() == ClasspathEntry.Type.EXTERNAL_ARCHIVE) mp.add(this.resolver.resolve(entry.path()));
+        }
+        for (Path entry : this.classpath) cp.add(entry.toString());
+
+        if (!cp.isEmpty()) {
+            command.add("-cp");
+            command.add(String.join(File.pathSeparator, cp));
+        }
+        if (!mp.isEmpty()) {
+            command.add("--module-path");
+            command.add(String.join(File.pathSeparator, mp));
+        }
+
+        if (config.moduleName() != null) {
+            command.add("-m");
+            command.add(config.moduleName() + "/" + config.mainClass());
+        } else {
+            command.add(config.mainClass());
+        }
+
+        for (String arg : config.arguments()) command.addAll(splitArguments(this.resolver.resolve(arg)));
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        Map<String, String> env = builder.environment();
+        config.envVars().forEach((key, value) -> env.put(key, this.resolver.resolve(value)));
+
+        Path workingDir = config.workingDirectory() != null ? Path.of(this.resolver.resolve(config.workingDirectory())) : this.resolver.projectLocation(config.project());
+        if (Files.isDirectory(workingDir)) builder.directory(workingDir.toFile());
+
+        return builder;
+    }
+
+    /**
+     * Splits a string of command-line arguments in the same manner as Eclipse, honoring double quotes and backslash escapes of quotes.
+     *
+     * @param args The argument string.
+     * @return The individual arguments.
+     */
+    public static List<String> splitArguments(String args) {
+        List<String> out = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean pending = false;
+        for (int i = 0; i < args.length(); i++) {
+            char c = args.charAt(i);
+            if (c == '\\' && i + 1 < args.length() && args.charAt(i + 1) == '"') {
+                current.append('"');
+                pending = true;
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+                pending = true;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (pending) out.add(current.toString());
+                current.setLength(0);
+                pending = false;
+            } else {
+                current.append(c);
+                pending = true;
+            }
+        }
+        if (pending) out.add(current.toString());
+        return out;
+    }
+}
@@ -0,0 +1,302 @@
+package net.neoforged.elc.launch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.LaunchGroup.Action;
+import net.neoforged.elc.util.JsonWriter;
+
+/**
+ * Measures the time-to-ready of {@link JavaApplicationLaunchConfig}s by launching them headlessly, so that startup regressions can be tracked
+ * across dependency upgrades.
+ * <p>
+ * A config is ready once a line of its output (stdout or stderr) contains a match for the regular expression of its readiness action,
+ * which is the same condition a {@link net.neoforged.elc.configs.LaunchGroup} waits for with {@link Action#outputRegexp(String)}.
+ * Each config is measured in two variants:
+ * <ul>
+ * <li>{@link Variant#INITIAL}: the first launches of the config, performed back to back before any warm-up launch. Only the very first of them
+ * may run with a cold OS file cache, so this variant shows how quickly launches settle rather than the cost of a truly cold start,
+ * which would require dropping the OS caches between launches.</li>
+ * <li>{@link Variant#WARM}: launches performed after a number of discarded warm-up launches, with the OS file cache populated.</li>
+ * </ul>
+ * The peak resident set size up to readiness is read from <code>/proc</code> when the process becomes ready, and is only available on Linux.
+ * Processes are killed once they are ready, so the memory they would use afterwards is not measured.
+ */
+public final class LaunchBenchmark {
+
+    private final HeadlessLauncher launcher;
+    private final Map<String, Target> targets = new LinkedHashMap<>();
+    private int iterations = 5;
+    private int warmups = 2;
+    private Duration timeout = Duration.ofMinutes(2);
+
+    /**
+     * Creates a new benchmark.
+     *
+     * @param launcher The launcher used to start the configs.
+     */
+    public LaunchBenchmark(HeadlessLauncher launcher) {
+        this.launcher = launcher;
+    }
+
+    /**
+     * Adds a config to the benchmark.
+     *
+     * @param name      The name of the config, used in the report.
+     * @param config    The config to launch.
+     * @param readiness An {@link Action#outputRegexp(String) output regexp} action that detects when the config is ready.
+     * @return this
+     * @throws IllegalArgumentException if the action is not an output regexp action.
+     */
+    public LaunchBenchmark config(String name, JavaApplicationLaunchConfig config, Action readiness) {
+        if (readiness.type() != Action.ActionType.OUTPUT_REGEXP || readiness.param() == null) {
+            throw new IllegalArgumentException("Readiness must be an output regexp action, got " + readiness.type());
+        }
+        this.targets.put(name, new Target(config, Pattern.compile(readiness.param().serialize())));
+        return this;
+    }
+
+    /**
+     * Sets the number of measured launches per config and variant. Defaults to 5.
+     *
+     * @param iterations The number of measured launches.
+     * @return this
+     */
+    public LaunchBenchmark iterations(int iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Sets the number of discarded launches between the initial and warm variants. Defaults to 2.
+     *
+     * @param warmups The number of warm-up launches.
+     * @return this
+     */
+    public LaunchBenchmark warmups(int warmups) {
+        this.warmups = warmups;
+        return this;
+    }
+
+    /**
+     * Sets the time after which a launch that has not become ready is killed and counted as a failure. Defaults to two minutes.
+     *
+     * @param timeout The launch timeout.
+     * @return this
+     */
+    public LaunchBenchmark timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Runs the benchmark. Launches are performed sequentially.
+     *
+     * @return The measured results.
+     */
+    public Report run() throws IOException, InterruptedException {
+        List<ConfigResult> results = new ArrayList<>();
+        for (Map.Entry<String, Target> entry : this.targets.entrySet()) {
+            Target target = entry.getValue();
+            VariantResult initial = measure(target, this.iterations);
+            for (int i = 0; i < this.warmups; i++) launch(target);
+            VariantResult warm = measure(target, this.iterations);
+            results.add(new ConfigResult(entry.getKey(), initial, warm));
+        }
+        return new Report(results);
+    }
+
+    private VariantResult measure(Target target, int count) throws IOException, InterruptedException {
+        List<Sample> samples = new ArrayList<>();
+        int failures = 0;
+        for (int i = 0; i < count; i++) {
+            Sample sample = launch(target);
+            if (sample == null) failures++;
+            else samples.add(sample);
+        }
+        return VariantResult.of(samples, failures);
+    }
+
+    /**
+     * Launches a config once, returning null if it exited or timed out before becoming ready.
+     */
+    @Nullable
+    private Sample launch(Target target) throws IOException, InterruptedException {
+        ProcessBuilder builder = this.launcher.command(target.config(), List.of());
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicLong readyAt = new AtomicLong();
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        Thread out = watch(process.getInputStream(), target.readiness(), ready, readyAt);
+        Thread err = watch(process.getErrorStream(), target.readiness(), ready, readyAt);
+
+        try {
+            long deadline = start + this.timeout.toNanos();
+            while (!ready.await(10, TimeUnit.MILLISECONDS)) {
+                if (!process.isAlive() || System.nanoTime() > deadline) break;
+            }
+
+            if (ready.getCount() != 0) {
+                // The output may have matched just as the process exited.
+                out.join(100);
+                err.join(100);
+            }
+
+            if (ready.getCount() != 0) return null;
+            return new Sample(readyAt.get() - start, peakRssKb(process.pid()));
+        } finally {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+            process.waitFor();
+        }
+    }
+
+    private static Thread watch(InputStream stream, Pattern readiness, CountDownLatch ready, AtomicLong readyAt) {
+        Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    // Keep draining after readiness so the process never blocks on a full pipe.
+                    if (ready.getCount() != 0 && readiness.matcher(line).find()) {
+                        readyAt.compareAndSet(0, System.nanoTime());
+                        ready.countDown();
+                    }
+                }
+            } catch (IOException e) {
+                // The stream is closed when the process is destroyed.
+            }
+        }, "LaunchBenchmark output");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static long peakRssKb(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.substring(6).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not available on this platform.
+        }
+        return -1;
+    }
+
+    private static record Target(JavaApplicationLaunchConfig config, Pattern readiness) {}
+
+    private static record Sample(long nanos, long peakRssAtReadyKb) {}
+
+    /**
+     * The benchmark variants. See {@link LaunchBenchmark}.
+     */
+    public static enum Variant {
+        INITIAL,
+        WARM;
+    }
+
+    /**
+     * The measurements of a single variant of a config.
+     *
+     * @param runs             The number of successful launches.
+     * @param failures         The number of launches that exited or timed out before becoming ready.
+     * @param medianMillis     The median time-to-ready, in milliseconds.
+     * @param p95Millis        The 95th percentile time-to-ready, in milliseconds.
+     * @param peakRssAtReadyKb The largest peak resident set size up to readiness, in kilobytes, or -1 if unavailable.
+     */
+    public static record VariantResult(int runs, int failures, double medianMillis, double p95Millis, long peakRssAtReadyKb) {
+
+        static VariantResult of(List<Sample> samples, int failures) {
+            long[] nanos = new long[samples.size()];
+            long rss = -1;
+            for (int i = 0; i < nanos.length; i++) {
+                nanos[i] = samples.get(i).nanos();
+                rss = Math.max(rss, samples.get(i).peakRssAtReadyKb());
+            }
+            Arrays.sort(nanos);
+            return new VariantResult(nanos.length, failures, percentile(nanos, 50), percentile(nanos, 95), rss);
+        }
+
+        /**
+         * Nearest-rank percentile, in milliseconds.
+         */
+        private static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) return Double.NaN;
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+
+        void write(JsonWriter json) throws IOException {
+            json.beginObject();
+            json.name("runs").value(this.runs);
+            json.name("failures").value(this.failures);
+            json.name("medianMillis").value(this.medianMillis);
+            json.name("p95Millis").value(this.p95Millis);
+            json.name("peakRssAtReadyKb").value(this.peakRssAtReadyKb);
+            json.endObject();
+        }
+    }
+
+    /**
+     * The measurements of a single config.
+     *
+     * @param name    The name of the config.
+     * @param initial The results of the {@link Variant#INITIAL} variant.
+     * @param warm    The results of the {@link Variant#WARM} variant.
+     */
+    public static record ConfigResult(String name, VariantResult initial, VariantResult warm) {}
+
+    /**
+     * The results of a benchmark run.
+     *
+     * @param configs The results of each config, in the order they were added.
+     */
+    public static record Report(List<ConfigResult> configs) {
+
+        /**
+         * Writes this report as JSON.
+         *
+         * @param writer The target writer.
+         */
+        public void writeJson(Writer writer) throws IOException {
+            JsonWriter json = new JsonWriter(writer);
+            json.beginObject();
+            json.name("configs").beginArray();
+            for (ConfigResult config : this.configs) {
+                json.beginObject();
+                json.property("name", config.name());
+                json.name(Variant.INITIAL.name().toLowerCase(Locale.ROOT));
+                config.initial().write(json);
+                json.name(Variant.WARM.name().toLowerCase(Locale.ROOT));
+                config.warm().write(json);
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+            json.flush();
+        }
+    }
+}
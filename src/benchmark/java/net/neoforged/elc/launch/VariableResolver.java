@@ -0,0 +1,157 @@
+package net.neoforged.elc.launch;
+
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.EclipseVariables;
+
+/**
+ * Resolves {@linkplain EclipseVariables Eclipse Variables} outside of Eclipse, so that launch configs can be executed headlessly.
+ * <p>
+ * Only variables that do not depend on the state of the IDE (such as the current selection or build) can be resolved:
+ * <ul>
+ * <li><code>workspace_loc</code> and <code>project_loc</code>, using the registered {@linkplain #project(String, Path) project locations}.</li>
+ * <li><code>env_var</code>, <code>system_property</code> and <code>current_date</code>.</li>
+ * <li><code>string_prompt</code>, which resolves to its default value.</li>
+ * <li>Any variable registered via {@link #variable(String, Function)}.</li>
+ * </ul>
+ */
+public final class VariableResolver {
+
+    private final Path workspace;
+    private final Map<String, Path> projects = new HashMap<>();
+    private final Map<String, Function<@Nullable String, String>> custom = new HashMap<>();
+
+    /**
+     * Creates a new resolver.
+     *
+     * @param workspace The root of the workspace, which projects are resolved against unless registered explicitly.
+     */
+    public VariableResolver(Path workspace) {
+        this.workspace = workspace.toAbsolutePath();
+    }
+
+    /**
+     * Registers the location of an Eclipse project that does not live directly under the workspace root.
+     *
+     * @param name     The name of the Eclipse project.
+     * @param location The directory of the project.
+     * @return this
+     */
+    public VariableResolver project(String name, Path location) {
+        this.projects.put(name, location.toAbsolutePath());
+        return this;
+    }
+
+    /**
+     * Registers a resolver for an additional variable.
+     *
+     * @param name     The name of the variable.
+     * @param resolver A function from the (nullable) variable argument to its value.
+     * @return this
+     */
+    public VariableResolver variable(String name, Function<@Nullable String, String> resolver) {
+        this.custom.put(name, resolver);
+        return this;
+    }
+
+    /**
+     * Returns the directory of an Eclipse project.
+     *
+     * @param name The name of the Eclipse project.
+     */
+    public Path projectLocation(String name) {
+        Path location = this.projects.get(name);
+        return location != null ? location : this.workspace.resolve(name);
+    }
+
+    /**
+     * Resolves all variables in a string, including nested variables.
+     *
+     * @param value The string to resolve.
+     * @return The resolved string.
+     * @throws IllegalArgumentException if the string contains a variable that cannot be resolved headlessly.
+     */
+    public String resolve(String value) {
+        int start = value.indexOf("${");
+        if (start < 0) return value;
+
+        StringBuilder out = new StringBuilder(value.length());
+        int cursor = 0;
+        while (start >= 0) {
+            int end = findEnd(value, start + 2);
+            if (end < 0) throw new IllegalArgumentException("Unterminated variable in " + value);
+
+            out.append(value, cursor, start);
+            String body = resolve(value.substring(start + 2, end));
+            int colon = body.indexOf(':');
+            out.append(colon < 0 ? evaluate(body, null) : evaluate(body.substring(0, colon), body.substring(colon + 1)));
+
+            cursor = end + 1;
+            start = value.indexOf("${", cursor);
+        }
+        out.append(value, cursor, value.length());
+        return out.toString();
+    }
+
+    private static int findEnd(String value, int from) {
+        int depth = 0;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '$' && i + 1 < value.length() && value.charAt(i + 1) == '{') {
+                depth++;
+                i++;
+            } else if (c == '}') {
+                if (depth-- == 0) return i;
+            }
+        }
+        return -1;
+    }
+
+    private String evaluate(String name, @Nullable String arg) {
+        Function<@Nullable String, String> custom = this.custom.get(name);
+        if (custom != null) return custom.apply(arg);
+
+        switch (name) {
+            case "workspace_loc":
+                return arg == null ? this.workspace.toString() : resourceLocation(arg).toString();
+            case "project_loc":
+                if (arg != null) return resourceLocation(arg).toString();
+                break;
+            case "env_var":
+                if (arg != null) {
+                    String env = System.getenv(arg);
+                    return env == null ? "" : env;
+                }
+                break;
+            case "system_property":
+                if (arg != null) {
+                    String prop = System.getProperty(arg);
+                    return prop == null ? "" : prop;
+                }
+                break;
+            case "current_date":
+                return new SimpleDateFormat(arg == null ? "yyyyMMdd_HHmm" : arg).format(new Date());
+            case "string_prompt":
+                int colon = arg == null ? -1 : arg.indexOf(':');
+                if (colon >= 0) return arg.substring(colon + 1);
+                break;
+        }
+
+        throw new IllegalArgumentException("Cannot resolve variable ${" + name + (arg == null ? "" : ":" + arg) + "} outside of Eclipse");
+    }
+
+    private Path resourceLocation(String resource) {
+        String path = resource.startsWith("/") ? resource.substring(1) : resource;
+        int slash = path.indexOf('/');
+        String project = slash < 0 ? path : path.substring(0, slash);
+        Path location = projectLocation(project);
+        return slash < 0 ? location : location.resolve(path.substring(slash + 1));
+    }
+}
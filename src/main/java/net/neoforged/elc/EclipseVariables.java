@@ -362,11 +362,12 @@ public class EclipseVariables {
     }
 
     private static String variable(String name, @Nullable String param, @Nullable String param2) {
-        if (param2 != null) {
-            if (param == null)
-                throw new UnsupportedOperationException("A second parameter may not be provided if the first one is not provided.");
-            return String.format("${%s:%s:%s}", name, param, param2);
-        } else if (param != null) return String.format("${%s:%s}", name, param);
-        else return String.format("${%s}", name);
+        if (param2 != null && param == null)
+            throw new UnsupportedOperationException("A second parameter may not be provided if the first one is not provided.");
+        // Built explicitly, as string concatenation is bootstrapped on first use, which costs more than writing a whole launch config in a cold JVM.
+        StringBuilder sb = new StringBuilder("${").append(name);
+        if (param != null) sb.append(':').append(param);
+        if (param2 != null) sb.append(':').append(param2);
+        return sb.append('}').toString();
     }
 }
@@ -0,0 +1,85 @@
+package net.neoforged.elc.attributes;
+
+/**
+ * A typed key for a known E-Attribute of a launch configuration type.
+ * <p>
+ * Each key is assigned a small integer {@linkplain #id() id} by the {@link AttributeRegistry} that created it, which is used as an index into an {@link AttributeTable}.
+ * Keys are compared by identity.
+ * <p>
+ * Keys of {@link ListAttribute}s also accept {@link StreamingListAttribute}s, which are {@linkplain StreamingListAttribute#materialize() materialized} when
+ * they are looked up through the key, consuming their source.
+ *
+ * @param <A> The type of {@link EAttribute} that is baked for this key.
+ */
+public final class AttributeKey<A extends EAttribute> {
+
+    private final AttributeRegistry registry;
+    private final String name;
+    private final int id;
+    private final Class<?> attributeType;
+
+    AttributeKey(AttributeRegistry registry, String name, int id, Class<?> attributeType) {
+        this.registry = registry;
+        this.name = name;
+        this.id = id;
+        this.attributeType = attributeType;
+    }
+
+    /**
+     * Returns the registry that owns this key.
+     */
+    public AttributeRegistry registry() {
+        return this.registry;
+    }
+
+    /**
+     * Returns the E-Attribute key string, as it appears in the serialized launch config.
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the id of this key, which is unique within its {@linkplain #registry() registry} and ranges from zero to the size of the registry.
+     */
+    public int id() {
+        return this.id;
+    }
+
+    /**
+     * Returns the class of {@link EAttribute} that is baked for this key.
+     */
+    public Class<?> attributeType() {
+        return this.attributeType;
+    }
+
+    /**
+     * Casts an attribute to the type baked for this key.
+     * <p>
+     * A {@link StreamingListAttribute} cast to a {@link ListAttribute} is materialized.
+     *
+     * @param attribute The attribute to cast.
+     * @return The attribute.
+     * @throws IllegalArgumentException if the attribute does not have the type expected by this key.
+     */
+    @SuppressWarnings("unchecked")
+    public A cast(EAttribute attribute) {
+        if (check(attribute) instanceof StreamingListAttribute streaming && this.attributeType == ListAttribute.class) return (A) streaming.materialize();
+        return (A) attribute;
+    }
+
+    /**
+     * Checks that an attribute can be cast to the type baked for this key, without materializing it.
+     */
+    EAttribute check(EAttribute attribute) {
+        if (!this.attributeType.isInstance(attribute) && !(attribute instanceof StreamingListAttribute && this.attributeType == ListAttribute.class)) {
+            throw new IllegalArgumentException("Attribute " + this.name + " is a " + attribute.getClass().getSimpleName() + ", expected a " + this.attributeType.getSimpleName());
+        }
+        return attribute;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,163 @@
+package net.neoforged.elc.attributes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An Attribute Registry holds the {@link AttributeKey}s known to a single launch configuration type, assigning each an id in registration order.
+ * <p>
+ * Registration is not thread-safe, and is expected to happen during class initialization of the holder of the keys.
+ */
+public final class AttributeRegistry {
+
+    /**
+     * A registry with no keys, for launch configuration types whose attributes are not known ahead of time.
+     */
+    public static final AttributeRegistry EMPTY = new AttributeRegistry("", true);
+
+    private final String configType;
+    private final boolean locked;
+    private final List<AttributeKey<?>> keys = new ArrayList<>();
+    private final Map<String, AttributeKey<?>> byName = new HashMap<>();
+
+    /**
+     * Creates a new registry for the specified launch configuration type.
+     *
+     * @param configType The type name of the launch configuration. See {@link net.neoforged.elc.configs.LaunchConfig#getType()}.
+     */
+    public AttributeRegistry(String configType) {
+        this(configType, false);
+    }
+
+    private AttributeRegistry(String configType, boolean locked) {
+        this.configType = configType;
+        this.locked = locked;
+    }
+
+    /**
+     * Registers a key that is baked to a {@link PrimitiveAttribute}.
+     *
+     * @param name The E-Attribute key.
+     * @return The newly-registered key.
+     */
+    @SuppressWarnings("unchecked")
+    public AttributeKey<PrimitiveAttribute<?>> primitive(String name) {
+        return register(name, (Class<PrimitiveAttribute<?>>) (Class<?>) PrimitiveAttribute.class);
+    }
+
+    /**
+     * Registers a key that is baked to a {@link ListAttribute}.
+     *
+     * @param name The E-Attribute key.
+     * @return The newly-registered key.
+     */
+    public AttributeKey<ListAttribute> list(String name) {
+        return register(name, ListAttribute.class);
+    }
+
+    /**
+     * Registers a key that is baked to a {@link SetAttribute}.
+     *
+     * @param name The E-Attribute key.
+     * @return The newly-registered key.
+     */
+    public AttributeKey<SetAttribute> set(String name) {
+        return register(name, SetAttribute.class);
+    }
+
+    /**
+     * Registers a key that is baked to a {@link MapAttribute}.
+     *
+     * @param name The E-Attribute key.
+     * @return The newly-registered key.
+     */
+    public AttributeKey<MapAttribute> map(String name) {
+        return register(name, MapAttribute.class);
+    }
+
+    /**
+     * Registers a key that is baked to an arbitrary {@link EAttribute} implementation.
+     *
+     * @param name          The E-Attribute key.
+     * @param attributeType The type of attribute that will be baked for the key.
+     * @return The newly-registered key.
+     * @throws IllegalArgumentException if a key with the same name was already registered.
+     */
+    public <A extends EAttribute> AttributeKey<A> register(String name, Class<A> attributeType) {
+        if (this.locked) throw new UnsupportedOperationException("Cannot register keys to the empty registry.");
+        if (this.byName.containsKey(name)) throw new IllegalArgumentException("Duplicate attribute key " + name + " for " + this.configType);
+
+        AttributeKey<A> key = new AttributeKey<>(this, name, this.keys.size(), attributeType);
+        this.keys.add(key);
+        this.byName.put(name, key);
+        return key;
+    }
+
+    /**
+     * Checks that extra attributes of a launch config neither use a key registered here, which the launch config bakes itself, nor share a key with each other.
+     * <p>
+     * This only looks at the keys of the extra attributes, so it is cheap enough to run on every build of a launch config.
+     *
+     * @param extraAttributes The extra attributes of a launch config.
+     * @throws IllegalArgumentException if an extra attribute has a registered key, or the same key as another extra attribute.
+     */
+    public void checkExtraAttributes(List<? extends EAttribute> extraAttributes) {
+        if (extraAttributes.isEmpty()) return;
+        Set<String> seen = extraAttributes.size() > 1 ? new HashSet<>() : null;
+        for (EAttribute attribute : extraAttributes) {
+            String key = attribute.key();
+            if (this.byName.containsKey(key) || seen != null && !seen.add(key)) {
+                throw new IllegalArgumentException("Duplicate attribute " + key + " in " + this.configType);
+            }
+        }
+    }
+
+    /**
+     * Looks up a key by its E-Attribute key string.
+     *
+     * @param name The E-Attribute key.
+     * @return The registered key, or null if no key with that name is registered.
+     */
+    @Nullable
+    public AttributeKey<?> get(String name) {
+        return this.byName.get(name);
+    }
+
+    /**
+     * Looks up a key by its id.
+     *
+     * @param id The id of the key.
+     * @return The registered key.
+     */
+    public AttributeKey<?> get(int id) {
+        return this.keys.get(id);
+    }
+
+    /**
+     * Returns the number of registered keys, which is one greater than the largest id.
+     */
+    public int size() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns all registered keys, in id order.
+     */
+    public List<AttributeKey<?>> keys() {
+        return Collections.unmodifiableList(this.keys);
+    }
+
+    /**
+     * Returns the type name of the launch configuration this registry belongs to.
+     */
+    public String configType() {
+        return this.configType;
+    }
+}
@@ -0,0 +1,120 @@
+package net.neoforged.elc.attributes;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An Attribute Table holds a set of baked attributes indexed for constant-time lookup.
+ * <p>
+ * Attributes whose key is known to the table's {@link AttributeRegistry} are stored in an array indexed by {@link AttributeKey#id()}.
+ * All other attributes (such as {@linkplain net.neoforged.elc.configs.JavaApplicationLaunchConfig#extraAttributes() extra attributes}) are stored by key.
+ */
+public final class AttributeTable {
+
+    private final AttributeRegistry registry;
+    private final List<EAttribute> attributes;
+    private final EAttribute[] known;
+    private final Map<String, EAttribute> unknown;
+
+    private AttributeTable(AttributeRegistry registry, List<EAttribute> attributes, EAttribute[] known, Map<String, EAttribute> unknown) {
+        this.registry = registry;
+        this.attributes = attributes;
+        this.known = known;
+        this.unknown = unknown;
+    }
+
+    /**
+     * Indexes a list of baked attributes.
+     *
+     * @param registry   The registry of the launch configuration type the attributes were baked for.
+     * @param attributes The baked attributes.
+     * @return A newly-constructed {@link AttributeTable}.
+     * @throws IllegalArgumentException if two attributes share the same key, or if an attribute does not have the type its key expects.
+     */
+    public static AttributeTable of(AttributeRegistry registry, List<EAttribute> attributes) {
+        EAttribute[] known = new EAttribute[registry.size()];
+        Map<String, EAttribute> unknown = new HashMap<>();
+
+        for (EAttribute attribute : attributes) {
+            AttributeKey<?> key = registry.get(attribute.key());
+            EAttribute existing;
+            if (key != null) {
+                existing = known[key.id()];
+                known[key.id()] = key.check(attribute);
+            } else {
+                existing = unknown.put(attribute.key(), attribute);
+            }
+
+            if (existing != null) {
+                throw new IllegalArgumentException("Duplicate attribute " + attribute.key() + " in " + registry.configType());
+            }
+        }
+
+        return new AttributeTable(registry, Collections.unmodifiableList(attributes), known, unknown);
+    }
+
+    /**
+     * Gets the attribute for a known key.
+     * <p>
+     * A {@link StreamingListAttribute} baked for a {@link ListAttribute} key is {@linkplain AttributeKey#cast(EAttribute) materialized} on each lookup.
+     *
+     * @param key A key belonging to this table's registry.
+     * @return The attribute, or null if it was not baked.
+     * @throws IllegalArgumentException if the key belongs to a different registry.
+     */
+    @Nullable
+    public <A extends EAttribute> A get(AttributeKey<A> key) {
+        if (key.registry() != this.registry) {
+            throw new IllegalArgumentException("Key " + key + " does not belong to " + this.registry.configType());
+        }
+        EAttribute attribute = this.known[key.id()];
+        return attribute == null ? null : key.cast(attribute);
+    }
+
+    /**
+     * Gets the attribute for any key.
+     *
+     * @param key The E-Attribute key.
+     * @return The attribute, or null if it was not baked.
+     */
+    @Nullable
+    public EAttribute get(String key) {
+        AttributeKey<?> known = this.registry.get(key);
+        return known != null ? this.known[known.id()] : this.unknown.get(key);
+    }
+
+    /**
+     * Checks if an attribute was baked for the given key.
+     *
+     * @param key The E-Attribute key.
+     * @return If the attribute is present.
+     */
+    public boolean contains(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns all attributes in this table, in the order they were baked.
+     */
+    public List<EAttribute> attributes() {
+        return this.attributes;
+    }
+
+    /**
+     * Returns the registry used to index this table.
+     */
+    public AttributeRegistry registry() {
+        return this.registry;
+    }
+
+    /**
+     * Returns the number of attributes in this table.
+     */
+    public int size() {
+        return this.attributes.size();
+    }
+}
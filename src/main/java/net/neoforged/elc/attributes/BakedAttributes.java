@@ -0,0 +1,156 @@
+package net.neoforged.elc.attributes;
+
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A read-only view over the baked attributes of a launch config, offering constant-time lookup by key.
+ * <p>
+ * The index backing the lookups is an {@link AttributeTable}, which is only built when the first lookup is performed.
+ * Consumers that only iterate the attributes via {@link #list()} pay nothing extra.
+ */
+public final class BakedAttributes {
+
+    private final AttributeRegistry registry;
+    private final List<EAttribute> attributes;
+
+    @Nullable
+    private volatile AttributeTable table;
+
+    /**
+     * Creates a new view over a list of baked attributes.
+     *
+     * @param registry   The registry of the launch config type the attributes were baked for.
+     * @param attributes The baked attributes.
+     */
+    public BakedAttributes(AttributeRegistry registry, List<EAttribute> attributes) {
+        this.registry = registry;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Returns the baked attributes, in the order they were baked.
+     */
+    public List<EAttribute> list() {
+        return this.attributes;
+    }
+
+    /**
+     * Returns the index over the baked attributes, building it if necessary.
+     *
+     * @throws IllegalArgumentException if two attributes share the same key.
+     */
+    public AttributeTable table() {
+        AttributeTable table = this.table;
+        if (table == null) {
+            // Racing threads may both build the table, but will build equivalent ones.
+            this.table = table = AttributeTable.of(this.registry, this.attributes);
+        }
+        return table;
+    }
+
+    /**
+     * Gets the attribute for a known key.
+     *
+     * @param key A key belonging to the registry of the launch config type.
+     * @return The attribute, or null if it was not baked.
+     */
+    @Nullable
+    public <A extends EAttribute> A get(AttributeKey<A> key) {
+        return table().get(key);
+    }
+
+    /**
+     * Gets the attribute for any key.
+     *
+     * @param key The E-Attribute key.
+     * @return The attribute, or null if it was not baked.
+     */
+    @Nullable
+    public EAttribute get(String key) {
+        return table().get(key);
+    }
+
+    /**
+     * Checks if an attribute was baked for the given key.
+     *
+     * @param key The E-Attribute key.
+     * @return If the attribute is present.
+     */
+    public boolean contains(String key) {
+        return table().contains(key);
+    }
+
+    /**
+     * Gets a {@link PrimitiveAttribute} by key.
+     *
+     * @param key The E-Attribute key.
+     * @return The attribute, or null if it was not baked.
+     * @throws IllegalArgumentException if the attribute is not a {@link PrimitiveAttribute}.
+     */
+    @Nullable
+    public PrimitiveAttribute<?> getPrimitive(String key) {
+        return get(key, PrimitiveAttribute.class);
+    }
+
+    /**
+     * Gets a {@link ListAttribute} by key. A {@link StreamingListAttribute} is {@linkplain StreamingListAttribute#materialize() materialized}, consuming its source.
+     *
+     * @param key The E-Attribute key.
+     * @return The attribute, or null if it was not baked.
+     * @throws IllegalArgumentException if the attribute is neither a {@link ListAttribute} nor a {@link StreamingListAttribute}.
+     */
+    @Nullable
+    public ListAttribute getList(String key) {
+        if (get(key) instanceof StreamingListAttribute streaming) return streaming.materialize();
+        return get(key, ListAttribute.class);
+    }
+
+    /**
+     * Gets a {@link SetAttribute} by key.
+     *
+     * @param key The E-Attribute key.
+     * @return The attribute, or null if it was not baked.
+     * @throws IllegalArgumentException if the attribute is not a {@link SetAttribute}.
+     */
+    @Nullable
+    public SetAttribute getSet(String key) {
+        return get(key, SetAttribute.class);
+    }
+
+    /**
+     * Gets a {@link MapAttribute} by key.
+     *
+     * @param key The E-Attribute key.
+     * @return The attribute, or null if it was not baked.
+     * @throws IllegalArgumentException if the attribute is not a {@link MapAttribute}.
+     */
+    @Nullable
+    public MapAttribute getMap(String key) {
+        return get(key, MapAttribute.class);
+    }
+
+    /**
+     * Gets the serialized value of a {@link PrimitiveAttribute} by key.
+     *
+     * @param key The E-Attribute key.
+     * @return The serialized value, or null if the attribute was not baked.
+     * @throws IllegalArgumentException if the attribute is not a {@link PrimitiveAttribute}.
+     */
+    @Nullable
+    public String getValue(String key) {
+        PrimitiveAttribute<?> attribute = getPrimitive(key);
+        return attribute == null ? null : attribute.value().serialize();
+    }
+
+    @Nullable
+    private <A> A get(String key, Class<A> type) {
+        EAttribute attribute = get(key);
+        if (attribute == null) return null;
+        if (!type.isInstance(attribute)) {
+            throw new IllegalArgumentException("Attribute " + key + " is a " + attribute.getClass().getSimpleName() + ", expected a " + type.getSimpleName());
+        }
+        return type.cast(attribute);
+    }
+}
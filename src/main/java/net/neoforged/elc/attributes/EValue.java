@@ -2,32 +2,53 @@ package net.neoforged.elc.attributes;
 
 import java.util.function.Function;
 
+import net.neoforged.elc.util.StringPool;
+
 public record EValue<T>(T value, Function<T, String> serializer) {
 
+    /**
+     * Serializes values with {@link Object#toString()}. This is a class rather than a method reference, as bootstrapping a method reference
+     * on first use is a noticeable part of writing the first launch config in a fresh JVM.
+     */
+    private static final Function<Object, String> TO_STRING = new Function<>() {
+        @Override
+        public String apply(Object value) {
+            return value.toString();
+        }
+    };
+
     public String serialize() {
         return this.serializer.apply(this.value);
     }
 
+    /**
+     * Creates an {@link EValue} holding a string, which is interned through the {@linkplain StringPool#active() active string pool}, if any.
+     */
     public static EValue<String> of(String value) {
-        return of(value, Object::toString);
+        return of(StringPool.pooled(value), toStringSerializer());
     }
 
     public static EValue<Boolean> of(boolean value) {
-        return of(value, Object::toString);
+        return of(value, toStringSerializer());
     }
 
     public static EValue<Integer> of(int value) {
-        return of(value, Object::toString);
+        return of(value, toStringSerializer());
     }
 
     public static <T extends Enum<T>> EValue<T> of(T value) {
-        return of(value, Object::toString);
+        return of(value, toStringSerializer());
     }
 
     public static <T> EValue<T> of(T value, Function<T, String> serializer) {
         return new EValue<>(value, serializer);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, String> toStringSerializer() {
+        return (Function<T, String>) (Function<?, String>) TO_STRING;
+    }
+
     /**
      * Gets the E-Attribute Type ID of the contained value, which is one of the following:
      * <ul>
@@ -1,12 +1,16 @@
 package net.neoforged.elc.attributes;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * A List Attribute represents the E-Attribute type <code>listAttribute</code>.
  * Due to limitations set by Eclipse, the serialized form must be a list of strings.
@@ -25,19 +29,68 @@ public record ListAttribute(String key, List<EValue<?>> values) implements EAttr
         this(key, new ArrayList<>());
     }
 
+    /**
+     * Creates a {@link ListAttribute} backed by a view over a list of strings, which avoids copying the list into E-Values.
+     * The strings are written as-is, and are only wrapped into E-Values when {@linkplain #values() accessed}, once per entry.
+     * <p>
+     * The list is not copied, so it must not be modified while the attribute is in use. Unlike the list of {@link #ListAttribute(String)},
+     * the {@linkplain #values() values} of the returned attribute are read-only.
+     * 
+     * @param key    The key of the E-Attribute.
+     * @param values The string values.
+     * @return A list attribute viewing the strings.
+     * @see StreamingListAttribute
+     */
+    public static ListAttribute strings(String key, List<String> values) {
+        return new ListAttribute(key, new StringValues(values));
+    }
+
     @Override
     public void write(XMLStreamWriter writer, XMLOutputFactory outputFactory) throws XMLStreamException {
         writer.writeStartElement("listAttribute");
         writer.writeAttribute("key", key);
         writer.writeCharacters("\n");
-        for (EValue<?> entry : this.values) {
-            writer.writeCharacters("        ");
-            writer.writeStartElement("listEntry");
-            writer.writeAttribute("value", entry.serialize());
-            writer.writeEndElement();
-            writer.writeCharacters("\n");
+        if (this.values instanceof StringValues strings) {
+            for (String entry : strings.strings) writeEntry(writer, entry);
+        } else {
+            for (EValue<?> entry : this.values) writeEntry(writer, entry.serialize());
         }
         writer.writeCharacters("    ");
         writer.writeEndElement();
     }
+
+    static void writeEntry(XMLStreamWriter writer, String value) throws XMLStreamException {
+        writer.writeCharacters("        ");
+        writer.writeStartElement("listEntry");
+        writer.writeAttribute("value", value);
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+    }
+
+    private static final class StringValues extends AbstractList<EValue<?>> implements RandomAccess {
+
+        private final List<String> strings;
+
+        @Nullable
+        private EValue<?>[] values;
+
+        private StringValues(List<String> strings) {
+            this.strings = strings;
+        }
+
+        @Override
+        public EValue<?> get(int index) {
+            // Racing threads may both wrap a string, but will create equal values.
+            EValue<?>[] values = this.values;
+            if (values == null) this.values = values = new EValue<?>[this.strings.size()];
+            EValue<?> value = values[index];
+            if (value == null) values[index] = value = EValue.of(this.strings.get(index));
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return this.strings.size();
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package net.neoforged.elc.attributes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import net.neoforged.elc.attributes.MementoWriter.Memento;
+
+/**
+ * A Memento List Attribute represents an E-Attribute of type <code>listAttribute</code> whose entries are Eclipse mementos, such as runtime classpath entries.
+ * <p>
+ * The mementos are produced while writing, through a single {@link MementoWriter} shared by all entries, so no intermediate list of strings is held.
+ *
+ * @param key     The E-Attribute key attribute.
+ * @param entries The objects that will be serialized as the entries of this list.
+ */
+public record MementoListAttribute(String key, List<? extends Memento> entries) implements EAttribute {
+
+    @Override
+    public void write(XMLStreamWriter writer, XMLOutputFactory outputFactory) throws XMLStreamException {
+        MementoWriter memento = new MementoWriter();
+        writer.writeStartElement("listAttribute");
+        writer.writeAttribute("key", key);
+        writer.writeCharacters("\n");
+        for (Memento entry : this.entries) {
+            entry.writeMemento(memento.start());
+            writer.writeCharacters("        ");
+            writer.writeStartElement("listEntry");
+            writer.writeAttribute("value", memento.finish());
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+        }
+        writer.writeCharacters("    ");
+        writer.writeEndElement();
+    }
+
+    /**
+     * Serializes all entries to their memento strings.
+     *
+     * @return A list of the serialized entries.
+     */
+    public List<String> mementos() {
+        MementoWriter memento = new MementoWriter();
+        List<String> out = new ArrayList<>(this.entries.size());
+        for (Memento entry : this.entries) {
+            entry.writeMemento(memento.start());
+            out.add(memento.finish());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,132 @@
+package net.neoforged.elc.attributes;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A minimal XML writer for Eclipse mementos, which are small XML documents stored as the string value of an E-Attribute.
+ * <p>
+ * A single writer is intended to be reused for every memento of a launch config, as it retains its buffer between documents.
+ * Only elements and attributes are supported, since that is all that mementos use.
+ */
+public final class MementoWriter {
+
+    /**
+     * The XML declaration Eclipse emits at the start of every memento.
+     */
+    public static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+
+    private final StringBuilder buffer = new StringBuilder(256);
+    private final Deque<String> elements = new ArrayDeque<>();
+    private boolean inStartTag;
+
+    /**
+     * Clears the buffer and begins a new memento document.
+     *
+     * @return this
+     */
+    public MementoWriter start() {
+        this.buffer.setLength(0);
+        this.elements.clear();
+        this.inStartTag = false;
+        this.buffer.append(DECLARATION);
+        return this;
+    }
+
+    /**
+     * Opens a new element.
+     *
+     * @param name The element name.
+     * @return this
+     */
+    public MementoWriter startElement(String name) {
+        closeStartTag();
+        this.buffer.append('<').append(name);
+        this.elements.push(name);
+        this.inStartTag = true;
+        return this;
+    }
+
+    /**
+     * Writes an attribute on the most recently opened element. Must be called before any children are opened.
+     *
+     * @param name  The attribute name.
+     * @param value The attribute value, which will be escaped.
+     * @return this
+     */
+    public MementoWriter attribute(String name, String value) {
+        if (!this.inStartTag) throw new IllegalStateException("Attributes must be written before any child elements.");
+        this.buffer.append(' ').append(name).append("=\"");
+        escape(this.buffer, value);
+        this.buffer.append('"');
+        return this;
+    }
+
+    /**
+     * Closes the most recently opened element.
+     *
+     * @return this
+     */
+    public MementoWriter endElement() {
+        String name = this.elements.pop();
+        if (this.inStartTag) {
+            this.buffer.append("/>");
+            this.inStartTag = false;
+        } else {
+            this.buffer.append("</").append(name).append('>');
+        }
+        return this;
+    }
+
+    /**
+     * Closes any open elements and returns the memento.
+     *
+     * @return The serialized memento.
+     */
+    public String finish() {
+        while (!this.elements.isEmpty()) endElement();
+        return this.buffer.toString();
+    }
+
+    private void closeStartTag() {
+        if (this.inStartTag) {
+            this.buffer.append('>');
+            this.inStartTag = false;
+        }
+    }
+
+    /**
+     * Appends a string to a buffer, escaped for use as an XML attribute value.
+     *
+     * @param out   The target buffer.
+     * @param value The string to escape.
+     */
+    public static void escape(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\n' -> out.append("&#10;");
+                case '\r' -> out.append("&#13;");
+                case '\t' -> out.append("&#9;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * An object that can be serialized as an Eclipse memento.
+     */
+    public interface Memento {
+
+        /**
+         * Writes this object's memento to a writer. The writer has already been {@linkplain MementoWriter#start() started}.
+         *
+         * @param writer The target writer.
+         */
+        void writeMemento(MementoWriter writer);
+    }
+}
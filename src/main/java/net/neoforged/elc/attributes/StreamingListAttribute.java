@@ -0,0 +1,71 @@
+package net.neoforged.elc.attributes;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * A Streaming List Attribute represents the E-Attribute type <code>listAttribute</code>, with entries produced by a lazy source of strings.
+ * <p>
+ * The source is consumed each time the attribute is written, and entries are written as they are produced, so values derived from large sources
+ * (such as task graphs or argument files) are never held in memory in full. Streams are closed once written.
+ * <p>
+ * The source may be consumed several times, such as once per {@linkplain #write(XMLStreamWriter, XMLOutputFactory) write}, so it must produce the same entries each time.
+ * 
+ * @param key    The E-Attribute key attribute.
+ * @param source The source of the entries, called once per consumption.
+ */
+public record StreamingListAttribute(String key, Supplier<? extends Stream<String>> source) implements EAttribute {
+
+    /**
+     * Creates a {@link StreamingListAttribute} over an iterable, which is iterated once per consumption.
+     * 
+     * @param key    The key of the E-Attribute.
+     * @param values The iterable producing the entries.
+     */
+    public static StreamingListAttribute of(String key, Iterable<String> values) {
+        return new StreamingListAttribute(key, () -> StreamSupport.stream(values.spliterator(), false));
+    }
+
+    /**
+     * Creates a {@link StreamingListAttribute} over a stream supplier, which is called once per consumption.
+     * 
+     * @param key    The key of the E-Attribute.
+     * @param values The supplier producing a new stream of the entries.
+     */
+    public static StreamingListAttribute of(String key, Supplier<? extends Stream<String>> values) {
+        return new StreamingListAttribute(key, values);
+    }
+
+    /**
+     * Consumes the source into a {@link ListAttribute} holding all entries.
+     */
+    public ListAttribute materialize() {
+        List<EValue<?>> values = new ArrayList<>();
+        try (Stream<String> stream = this.source.get()) {
+            Iterator<String> it = stream.iterator();
+            while (it.hasNext()) values.add(EValue.of(it.next()));
+        }
+        return new ListAttribute(this.key, values);
+    }
+
+    @Override
+    public void write(XMLStreamWriter writer, XMLOutputFactory outputFactory) throws XMLStreamException {
+        writer.writeStartElement("listAttribute");
+        writer.writeAttribute("key", key);
+        writer.writeCharacters("\n");
+        try (Stream<String> stream = this.source.get()) {
+            Iterator<String> it = stream.iterator();
+            while (it.hasNext()) ListAttribute.writeEntry(writer, it.next());
+        }
+        writer.writeCharacters("    ");
+        writer.writeEndElement();
+    }
+}
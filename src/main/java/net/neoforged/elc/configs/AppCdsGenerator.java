@@ -0,0 +1,215 @@
+package net.neoforged.elc.configs;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.attributes.MementoWriter;
+
+/**
+ * Generates launch configs that use a dynamic <a href="https://docs.oracle.com/en/java/javase/17/vm/class-data-sharing.html">AppCDS</a> archive
+ * to speed up the startup of a {@link JavaApplicationLaunchConfig}.
+ * <p>
+ * Two variants of the config are generated: a training variant, which records the loaded classes into the archive on exit
+ * (<code>-XX:ArchiveClassesAtExit</code>), and a fast variant, which maps the archive on startup (<code>-XX:SharedArchiveFile</code>).
+ * If the archive is missing or stale, the JVM ignores it, so the fast variant is always safe to launch.
+ * <p>
+ * The archive file name embeds a hash of the classpath, so a classpath change produces a new archive path. A {@link LaunchGroup} is also generated,
+ * which runs the training variant before the fast variant only if the archive for the current hash does not exist yet, as reported by
+ * {@link Builder#projectDirectory(Path)}. Since the generator is rerun whenever the classpath changes, the archive is only regenerated when needed.
+ * <p>
+ * Launch configs with the default classpath do not list their classpath, so callers should supply the resolved classpath through
+ * {@link Builder#classpathFingerprint(String)} for the hash to follow dependency changes.
+ */
+public final class AppCdsGenerator {
+
+    private AppCdsGenerator() {}
+
+    /**
+     * Creates a new generator for a launch config.
+     *
+     * @param name   The name of the launch config. Generated configs are named <code>"&lt;name&gt; (AppCDS Training)"</code>, <code>"&lt;name&gt; (AppCDS)"</code> and
+     *               <code>"&lt;name&gt; (AppCDS Group)"</code>.
+     * @param config The launch config to accelerate.
+     */
+    public static Builder builder(String name, JavaApplicationLaunchConfig config) {
+        return new Builder(name, config);
+    }
+
+    /**
+     * Computes the hash of the parts of a launch config that invalidate an AppCDS archive: the JRE, the module, and the class and module paths.
+     *
+     * @param config      The launch config.
+     * @param fingerprint An additional fingerprint of the resolved classpath, or null.
+     * @return The first 12 hex digits of the SHA-256 hash.
+     */
+    public static String classpathHash(JavaApplicationLaunchConfig config, @Nullable String fingerprint) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported", e);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(config.jreContainer()).append('\n').append(config.moduleName()).append('\n');
+        MementoWriter memento = new MementoWriter();
+        for (ClasspathEntry entry : config.classpath()) {
+            entry.writeMemento(memento.start());
+            sb.append(memento.finish()).append('\n');
+        }
+        for (ClasspathEntry entry : config.modulepath()) {
+            entry.writeMemento(memento.start());
+            sb.append(memento.finish()).append('\n');
+        }
+        if (fingerprint != null) sb.append(fingerprint);
+
+        byte[] hash = digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder(12);
+        for (int i = 0; i < 6; i++) hex.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+        return hex.toString();
+    }
+
+    /**
+     * The generated launch configs.
+     *
+     * @param trainingName The name of the training config.
+     * @param training     The training config, which writes the archive on exit.
+     * @param fastName     The name of the fast config.
+     * @param fast         The fast config, which uses the archive.
+     * @param groupName    The name of the group config.
+     * @param group        The group, which runs the training config if the archive is missing, followed by the fast config.
+     * @param archivePath  The path of the archive, as an Eclipse Variable expression.
+     * @param hash         The classpath hash embedded in the archive file name.
+     */
+    public static record AppCdsConfigs(String trainingName, JavaApplicationLaunchConfig training, String fastName, JavaApplicationLaunchConfig fast,
+        String groupName, LaunchGroup group, String archivePath, String hash) {
+
+        /**
+         * Returns all generated launch configs keyed by name.
+         */
+        public Map<String, LaunchConfig> configs() {
+            Map<String, LaunchConfig> configs = new LinkedHashMap<>();
+            configs.put(this.trainingName, this.training);
+            configs.put(this.fastName, this.fast);
+            configs.put(this.groupName, this.group);
+            return configs;
+        }
+    }
+
+    /**
+     * Builder for {@link AppCdsConfigs}.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final JavaApplicationLaunchConfig config;
+        private String archiveDirectory = "build";
+        @Nullable
+        private String fingerprint;
+        @Nullable
+        private Path projectDirectory;
+        private boolean autoCreate;
+
+        private Builder(String name, JavaApplicationLaunchConfig config) {
+            this.name = name;
+            this.config = config;
+        }
+
+        /**
+         * Sets the directory holding the archive, relative to the project of the launch config. Defaults to <code>build</code>.
+         * <p>
+         * The JVM does not create missing directories when writing the archive, so the directory must already exist.
+         *
+         * @param archiveDirectory The project-relative archive directory.
+         * @return this
+         */
+        public Builder archiveDirectory(String archiveDirectory) {
+            this.archiveDirectory = archiveDirectory;
+            return this;
+        }
+
+        /**
+         * Sets an additional fingerprint of the resolved classpath, such as the list of resolved dependency files, which is included in the classpath hash.
+         *
+         * @param fingerprint The classpath fingerprint.
+         * @return this
+         */
+        public Builder classpathFingerprint(@Nullable String fingerprint) {
+            this.fingerprint = fingerprint;
+            return this;
+        }
+
+        /**
+         * Sets the location of the project of the launch config on disk, which is used to check if the archive for the current classpath already exists.
+         * If unset, the group always runs the training config.
+         *
+         * @param projectDirectory The directory of the project.
+         * @return this
+         */
+        public Builder projectDirectory(@Nullable Path projectDirectory) {
+            this.projectDirectory = projectDirectory;
+            return this;
+        }
+
+        /**
+         * Enables the automatic archive mode of Java 19 and later (<code>-XX:+AutoCreateSharedArchive</code>), in which the fast config creates
+         * and refreshes the archive itself. The group then never runs the training config.
+         *
+         * @param autoCreate If the archive is created automatically.
+         * @return this
+         */
+        public Builder autoCreate(boolean autoCreate) {
+            this.autoCreate = autoCreate;
+            return this;
+        }
+
+        /**
+         * Generates the launch configs.
+         *
+         * @return The generated configs.
+         */
+        public AppCdsConfigs build() {
+            String hash = classpathHash(this.config, this.fingerprint);
+            String relative = this.archiveDirectory + "/" + sanitize(this.name) + "-" + hash + ".jsa";
+            String archivePath = EclipseVariables.workspaceLocation(this.config.project()) + "/" + relative;
+
+            // Quoted, as the workspace location may contain spaces once resolved.
+            JavaApplicationLaunchConfig training = this.config.toBuilder()
+                .vmArgs("\"-XX:ArchiveClassesAtExit=" + archivePath + "\"")
+                .build(this.config.mainClass());
+
+            JavaApplicationLaunchConfig.Builder fast = this.config.toBuilder();
+            if (this.autoCreate) fast.vmArgs("-XX:+AutoCreateSharedArchive");
+            fast.vmArgs("\"-XX:SharedArchiveFile=" + archivePath + "\"");
+
+            String trainingName = this.name + " (AppCDS Training)";
+            String fastName = this.name + " (AppCDS)";
+
+            boolean archived = this.autoCreate || (this.projectDirectory != null && Files.isRegularFile(this.projectDirectory.resolve(relative)));
+            LaunchGroup.Builder group = LaunchGroup.builder();
+            if (!archived) {
+                group.entry(LaunchGroup.entry(trainingName).mode(LaunchGroup.Mode.RUN).action(LaunchGroup.Action.waitForTermination()));
+            }
+            group.entry(LaunchGroup.entry(fastName));
+
+            return new AppCdsConfigs(trainingName, training, fastName, fast.build(this.config.mainClass()), this.name + " (AppCDS Group)", group.build(), archivePath, hash);
+        }
+
+        private static String sanitize(String name) {
+            StringBuilder sb = new StringBuilder(name.length());
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                sb.append(Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.' ? c : '_');
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package net.neoforged.elc.configs;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.attributes.MementoWriter;
+import net.neoforged.elc.util.StringPool;
+
+/**
+ * Represents a runtime classpath entry of a {@link JavaApplicationLaunchConfig}, which Eclipse stores as a <code>runtimeClasspathEntry</code> memento.
+ * <p>
+ * Entries are used by both the {@linkplain JavaApplicationLaunchConfig.Keys#ATTR_CLASSPATH classpath} and the {@linkplain JavaApplicationLaunchConfig.Keys#ATTR_MODULEPATH module path}.
+ *
+ * @param type                 The kind of entry.
+ * @param property             Where the entry is placed on the runtime path.
+ * @param path                 The path of the entry, whose meaning depends on the {@linkplain Type type}.
+ * @param sourceAttachmentPath The path of the source archive attached to the entry.
+ * @param sourceRootPath       The root path within the source attachment.
+ * @param javaProject          The name of the Java project used to resolve the entry.
+ */
+public record ClasspathEntry(Type type, Property property, String path, @Nullable String sourceAttachmentPath, @Nullable String sourceRootPath,
+    @Nullable String javaProject) implements MementoWriter.Memento {
+
+    /**
+     * Creates an entry for the output and dependencies of an Eclipse project.
+     *
+     * @param project The name of the Eclipse project.
+     */
+    public static ClasspathEntry project(String project) {
+        return new ClasspathEntry(Type.PROJECT, Property.USER_CLASSES, StringPool.pooled(project), null, null, null);
+    }
+
+    /**
+     * Creates an entry for a jar or class folder outside of the Eclipse workspace.
+     * <p>
+     * Can use {@linkplain net.neoforged.elc.EclipseVariables eclipse variables} for path resolution.
+     *
+     * @param path The absolute file system path of the archive.
+     */
+    public static ClasspathEntry externalArchive(String path) {
+        return new ClasspathEntry(Type.EXTERNAL_ARCHIVE, Property.USER_CLASSES, StringPool.pooled(path), null, null, null);
+    }
+
+    /**
+     * Creates an entry for a jar or class folder within the Eclipse workspace.
+     *
+     * @param path The workspace-relative path of the archive, such as <code>/Project/libs/lib.jar</code>.
+     */
+    public static ClasspathEntry internalArchive(String path) {
+        return new ClasspathEntry(Type.INTERNAL_ARCHIVE, Property.USER_CLASSES, StringPool.pooled(path), null, null, null);
+    }
+
+    /**
+     * Creates an entry for a classpath variable, such as <code>JRE_LIB</code>.
+     *
+     * @param path The variable path, which may be extended by additional segments.
+     */
+    public static ClasspathEntry variable(String path) {
+        return new ClasspathEntry(Type.VARIABLE, Property.USER_CLASSES, StringPool.pooled(path), null, null, null);
+    }
+
+    /**
+     * Creates an entry for a classpath container, such as the JRE container.
+     *
+     * @param path The container path. See {@link JavaApplicationLaunchConfig.Keys#ATTR_JRE_CONTAINER_PATH} for the format of JRE containers.
+     */
+    public static ClasspathEntry container(String path) {
+        return new ClasspathEntry(Type.CONTAINER, Property.STANDARD_CLASSES, StringPool.pooled(path), null, null, null);
+    }
+
+    /**
+     * Creates an entry for the default classpath of an Eclipse project, which is the same classpath that would be used if the default classpath were not overridden.
+     *
+     * @param project The name of the Eclipse project.
+     */
+    public static ClasspathEntry defaultClasspath(String project) {
+        return new ClasspathEntry(Type.DEFAULT_CLASSPATH, Property.USER_CLASSES, StringPool.pooled(project), null, null, null);
+    }
+
+    /**
+     * Returns a copy of this entry placed on a different part of the runtime path.
+     *
+     * @param property The new classpath property.
+     */
+    public ClasspathEntry withProperty(Property property) {
+        return new ClasspathEntry(this.type, property, this.path, this.sourceAttachmentPath, this.sourceRootPath, this.javaProject);
+    }
+
+    /**
+     * Returns a copy of this entry with a source attachment.
+     *
+     * @param sourceAttachmentPath The path of the source archive.
+     * @param sourceRootPath       The root path within the source archive, or null to detect it.
+     */
+    public ClasspathEntry withSourceAttachment(String sourceAttachmentPath, @Nullable String sourceRootPath) {
+        return new ClasspathEntry(this.type, this.property, this.path, StringPool.pooled(sourceAttachmentPath), StringPool.pooled(sourceRootPath), this.javaProject);
+    }
+
+    /**
+     * Returns a copy of this entry that is resolved in the context of a specific Java project.
+     *
+     * @param javaProject The name of the Java project.
+     */
+    public ClasspathEntry withJavaProject(String javaProject) {
+        return new ClasspathEntry(this.type, this.property, this.path, this.sourceAttachmentPath, this.sourceRootPath, StringPool.pooled(javaProject));
+    }
+
+    @Override
+    public void writeMemento(MementoWriter writer) {
+        writer.startElement("runtimeClasspathEntry");
+
+        if (this.type == Type.DEFAULT_CLASSPATH) {
+            writer.attribute("id", "org.eclipse.jdt.launching.classpathentry.defaultClasspath");
+            writer.startElement("memento").attribute("exportedEntriesOnly", "false").attribute("project", this.path).endElement();
+            writer.endElement();
+            return;
+        }
+
+        switch (this.type) {
+            case PROJECT -> writer.attribute("projectName", this.path);
+            case EXTERNAL_ARCHIVE -> writer.attribute("externalArchive", this.path);
+            case INTERNAL_ARCHIVE -> writer.attribute("internalArchive", this.path);
+            default -> writer.attribute("containerPath", this.path);
+        }
+
+        writer.attribute("path", this.property.id);
+        if (this.sourceAttachmentPath != null) writer.attribute("sourceAttachmentPath", this.sourceAttachmentPath);
+        if (this.sourceRootPath != null) writer.attribute("sourceRootPath", this.sourceRootPath);
+        if (this.javaProject != null) writer.attribute("javaProject", this.javaProject);
+        writer.attribute("type", this.type.id);
+        writer.endElement();
+    }
+
+    /**
+     * The kinds of runtime classpath entries.
+     */
+    public static enum Type {
+        PROJECT("1"),
+        EXTERNAL_ARCHIVE("2"),
+        INTERNAL_ARCHIVE("2"),
+        VARIABLE("3"),
+        CONTAINER("4"),
+        DEFAULT_CLASSPATH("5");
+
+        private final String id;
+
+        Type(String id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * The classpath properties, which determine where an entry is placed on the runtime path.
+     */
+    public static enum Property {
+
+        /**
+         * The entry is part of the standard (JRE) classes.
+         */
+        STANDARD_CLASSES("1"),
+
+        /**
+         * The entry is placed on the bootstrap classpath.
+         */
+        BOOTSTRAP_CLASSES("2"),
+
+        /**
+         * The entry is placed on the user classpath.
+         */
+        USER_CLASSES("3"),
+
+        /**
+         * The entry is placed on the module path.
+         */
+        MODULE_PATH("4"),
+
+        /**
+         * The entry is placed on the classpath of a modular launch.
+         */
+        CLASS_PATH("5");
+
+        private final String id;
+
+        Property(String id) {
+            this.id = id;
+        }
+    }
+}
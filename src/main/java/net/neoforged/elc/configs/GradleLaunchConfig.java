@@ -1,15 +1,25 @@
 package net.neoforged.elc.configs;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jetbrains.annotations.Nullable;
 
 import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.attributes.AttributeKey;
+import net.neoforged.elc.attributes.AttributeRegistry;
 import net.neoforged.elc.attributes.EAttribute;
-import net.neoforged.elc.attributes.EValue;
+import net.neoforged.elc.attributes.ListAttribute;
+import net.neoforged.elc.attributes.PrimitiveAttribute;
+import net.neoforged.elc.attributes.StreamingListAttribute;
 import net.neoforged.elc.configs.LaunchGroup.Mode;
+import net.neoforged.elc.util.StreamingList;
+import net.neoforged.elc.util.StringPool;
 import net.neoforged.elc.util.Util;
 
 /**
@@ -18,6 +28,9 @@ import net.neoforged.elc.util.Util;
  * It is used for launching one or more gradle tasks.
  * <p>
  * When executing this via {@link LaunchGroup}, it must always be run in {@link Mode#RUN}.
+ * <p>
+ * Tasks and arguments added from lazy sources, such as {@link Builder#tasks(Supplier)}, are held as {@link StreamingList}s, which are written as
+ * {@link StreamingListAttribute}s without being held in memory.
  * 
  * @param tasks              An ordered list of gradle tasks that will be executed by this config.
  * @param workingDirectory   The working directory for the launch config.
@@ -30,23 +43,29 @@ import net.neoforged.elc.util.Util;
  * @param arguments          Command-line arguments passed to the program (gradle, in this case) before execution.
  * @param jvmArguments       Command-line arguments passed to the JVM before startup.
  * @param overrideWorkspace  If the workspace settings are overridden. If false, most of the settings here are ignored. See {@link Keys#OVERRIDE_WORKSPACE}.
+ * @param extraAttributes    Any additional {@link EAttribute} values not explicitly permitted by this class that may be of relevance to the launch config.
  */
 public record GradleLaunchConfig(
     List<String> tasks, String workingDirectory, String gradleDistribution,
     boolean offlineMode, boolean showConsoleView, boolean showExecutionView,
     @Nullable String gradleUserHome, @Nullable String javaHome, List<String> arguments,
-    List<String> jvmArguments, boolean overrideWorkspace) implements LaunchConfig {
+    List<String> jvmArguments, boolean overrideWorkspace, List<EAttribute> extraAttributes) implements LaunchConfig {
 
     @Override
     public String getType() {
-        return "org.eclipse.buildship.core.launch.runconfiguration";
+        return Keys.TYPE;
+    }
+
+    @Override
+    public AttributeRegistry getAttributeRegistry() {
+        return TypedKeys.REGISTRY;
     }
 
     @Override
     public List<EAttribute> bakeAttributes() {
         List<EAttribute> attributes = new ArrayList<>();
 
-        attributes.add(EAttribute.of(Keys.TASKS, this.tasks.stream().<EValue<?>>map(EValue::of).collect(Collectors.toList())));
+        attributes.add(strings(Keys.TASKS, this.tasks));
 
         if (!this.workingDirectory.isEmpty()) { // The working directory must be omitted if empty, as empty is invalid.
             attributes.add(EAttribute.of(Keys.WORKING_DIR, this.workingDirectory));
@@ -65,13 +84,20 @@ public record GradleLaunchConfig(
             attributes.add(EAttribute.of(Keys.JAVA_HOME, this.javaHome));
         }
 
-        attributes.add(EAttribute.of(Keys.ARGUMENTS, this.arguments.stream().<EValue<?>>map(EValue::of).collect(Collectors.toList())));
-        attributes.add(EAttribute.of(Keys.JVM_ARGS, this.jvmArguments.stream().<EValue<?>>map(EValue::of).collect(Collectors.toList())));
+        attributes.add(strings(Keys.ARGUMENTS, this.arguments));
+        attributes.add(strings(Keys.JVM_ARGS, this.jvmArguments));
         attributes.add(EAttribute.of(Keys.OVERRIDE_WORKSPACE, this.overrideWorkspace));
 
+        attributes.addAll(this.extraAttributes);
+
         return attributes;
     }
 
+    private static EAttribute strings(String key, List<String> values) {
+        if (values instanceof StreamingList streaming) return StreamingListAttribute.of(key, streaming.source());
+        return ListAttribute.strings(key, values);
+    }
+
     /**
      * Creates a new builder for a specific Eclipse project.
      * 
@@ -86,9 +112,14 @@ public record GradleLaunchConfig(
      */
     public static final class Builder {
 
+        /**
+         * Gradle arguments which are known to break launches through Buildship, which either fail silently or never finish.
+         */
+        public static final Set<String> UNSUPPORTED_ARGS = Set.of("--no-daemon", "--foreground", "--stop", "--status");
+
         private String project;
 
-        private final List<String> tasks = new ArrayList<>();
+        private List<String> tasks = new ArrayList<>();
 
         private String workingDirectory = "";
 
@@ -106,19 +137,24 @@ public record GradleLaunchConfig(
         @Nullable
         private String javaHome;
 
-        private final List<String> arguments = new ArrayList<>();
+        private List<String> arguments = new ArrayList<>();
 
-        private final List<String> jvmArguments = new ArrayList<>();
+        private List<String> jvmArguments = new ArrayList<>();
 
         private boolean overrideWorkspace = false;
 
+        @Nullable
+        private GradlePerformance performance;
+
+        private final List<EAttribute> extraAttributes = new ArrayList<>();
+
         /**
          * Creates a new builder for a specific Eclipse project.
          * 
          * @param project The name of the Eclipse project the launch config is for.
          */
         public Builder(String project) {
-            this.project = project;
+            this.project = StringPool.pooled(project);
         }
 
         /**
@@ -130,7 +166,7 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder project(String project) {
-            this.project = project;
+            this.project = StringPool.pooled(project);
             return this;
         }
 
@@ -141,10 +177,33 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder tasks(String... tasks) {
-            for (String task : tasks) this.tasks.add(task);
+            this.tasks = add(this.tasks, Arrays.asList(tasks));
             return this;
         }
 
+        /**
+         * Adds gradle tasks produced by a lazy source to the end of the execution queue.
+         * <p>
+         * The source is not consumed until the launch config is built, and is consumed again each time the launch config is written. See {@link StreamingList}.
+         * 
+         * @param tasks The source of the new tasks, in execution order.
+         * @return this
+         */
+        public Builder tasks(Supplier<? extends Stream<String>> tasks) {
+            this.tasks = StreamingList.concat(this.tasks, tasks);
+            return this;
+        }
+
+        /**
+         * Adds gradle tasks produced by a lazy iterable to the end of the execution queue. See {@link #tasks(Supplier)}.
+         * 
+         * @param tasks The new tasks, in execution order.
+         * @return this
+         */
+        public Builder tasks(Iterable<String> tasks) {
+            return tasks(() -> StreamSupport.stream(tasks.spliterator(), false));
+        }
+
         /**
          * Sets the working directory.
          * <p>
@@ -154,7 +213,7 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder workingDirectory(String workingDirectory) {
-            this.workingDirectory = workingDirectory;
+            this.workingDirectory = StringPool.pooled(workingDirectory);
             return this;
         }
 
@@ -165,7 +224,7 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder gradleDist(String gradleDist) {
-            this.gradleDistribution = gradleDist;
+            this.gradleDistribution = StringPool.pooled(gradleDist);
             return overrideWorkspaceSettings(true);
         }
 
@@ -209,7 +268,7 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder gradleUserHome(@Nullable String gradleUserHome) {
-            this.gradleUserHome = gradleUserHome;
+            this.gradleUserHome = StringPool.pooled(gradleUserHome);
             return overrideWorkspaceSettings(true);
         }
 
@@ -220,7 +279,7 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder javaHome(@Nullable String javaHome) {
-            this.javaHome = javaHome;
+            this.javaHome = StringPool.pooled(javaHome);
             return overrideWorkspaceSettings(true);
         }
 
@@ -229,7 +288,8 @@ public record GradleLaunchConfig(
          * <p>
          * Supplying an incorrect or invalid argument will cause the launch config to emit nothing and silently fail.
          * <p>
-         * Supplying <code>--no-daemon</code> is not supported and causes the launch to fail similarly.
+         * Supplying <code>--no-daemon</code> is not supported and causes the launch to fail similarly. It and other {@linkplain #UNSUPPORTED_ARGS unsupported arguments}
+         * are rejected by {@link #build()}.
          * <p>
          * {@linkplain EclipseVariables eclipse variables} will be resolved in arguments.
          * 
@@ -237,10 +297,33 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder args(String... args) {
-            for (String arg : args) this.arguments.add(arg);
+            this.arguments = add(this.arguments, Arrays.asList(args));
             return overrideWorkspaceSettings(true);
         }
 
+        /**
+         * Adds program arguments produced by a lazy source to the launch config. See {@link #args(String...)} and {@link #tasks(Supplier)}.
+         * <p>
+         * The source is consumed by {@link #build()} to reject {@linkplain #UNSUPPORTED_ARGS unsupported arguments}, without holding its entries.
+         * 
+         * @param args The source of the arguments.
+         * @return this
+         */
+        public Builder args(Supplier<? extends Stream<String>> args) {
+            this.arguments = StreamingList.concat(this.arguments, args);
+            return overrideWorkspaceSettings(true);
+        }
+
+        /**
+         * Adds program arguments produced by a lazy iterable to the launch config. See {@link #args(Supplier)}.
+         * 
+         * @param args The arguments.
+         * @return this
+         */
+        public Builder args(Iterable<String> args) {
+            return args(() -> StreamSupport.stream(args.spliterator(), false));
+        }
+
         /**
          * Adds a <a href="https://docs.gradle.org/current/userguide/build_environment.html#sec:project_properties">Project Property</a> to the launch args.
          * <p>
@@ -253,7 +336,7 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder property(String key, Object value) {
-            return args("-P" + key + "=" + value.toString());
+            return args(new StringBuilder("-P").append(key).append('=').append(value).toString());
         }
 
         /**
@@ -265,10 +348,59 @@ public record GradleLaunchConfig(
          * @return this
          */
         public Builder jvmArgs(String... args) {
-            for (String arg : args) this.jvmArguments.add(arg);
+            this.jvmArguments = add(this.jvmArguments, Arrays.asList(args));
+            return overrideWorkspaceSettings(true);
+        }
+
+        /**
+         * Adds JVM arguments produced by a lazy source to the launch config. See {@link #jvmArgs(String...)} and {@link #tasks(Supplier)}.
+         * 
+         * @param args The source of the arguments.
+         * @return this
+         */
+        public Builder jvmArgs(Supplier<? extends Stream<String>> args) {
+            this.jvmArguments = StreamingList.concat(this.jvmArguments, args);
             return overrideWorkspaceSettings(true);
         }
 
+        /**
+         * Adds JVM arguments produced by a lazy iterable to the launch config. See {@link #jvmArgs(Supplier)}.
+         * 
+         * @param args The arguments.
+         * @return this
+         */
+        public Builder jvmArgs(Iterable<String> args) {
+            return jvmArgs(() -> StreamSupport.stream(args.spliterator(), false));
+        }
+
+        /**
+         * Applies a performance profile to the launch config. The arguments of the profile are added when the config is built, after any explicit arguments.
+         * <p>
+         * {@link #build()} will fail if an explicit argument conflicts with the profile, such as <code>--no-parallel</code> with a parallel profile,
+         * or an explicit <code>--max-workers</code> or <code>-Xmx</code> while the profile sets them.
+         * <p>
+         * Applying a profile enables {@linkplain #overrideWorkspaceSettings(boolean) overriding workspace settings}, as the profile is ignored otherwise.
+         * Removing it leaves the flag unchanged.
+         *
+         * @param performance The performance profile, or null to remove a previously applied profile.
+         * @return this
+         */
+        public Builder performance(@Nullable GradlePerformance performance) {
+            this.performance = performance;
+            return performance == null ? this : overrideWorkspaceSettings(true);
+        }
+
+        /**
+         * Adds an unspecified attribute to the builder.
+         * 
+         * @param attr The attribute being added.
+         * @return this
+         */
+        public Builder extraAttribute(EAttribute attr) {
+            this.extraAttributes.add(attr);
+            return this;
+        }
+
         /**
          * Sets the "Override Workspace Settings" flag. If disabled, only {@link #tasks} and {@link #workingDirectory} will be used during execution.
          * <p>
@@ -287,16 +419,67 @@ public record GradleLaunchConfig(
         /**
          * Builds a {@link GradleLaunchConfig}.
          * <p>
-         * All containers (lists, maps) are copied, so further modification to this builder will not modify the built object.
+         * All containers (lists, maps) are copied, so further modification to this builder will not modify the built object. Lazy sources are not consumed, except to
+         * validate arguments.
          * 
          * @return A newly-constructed {@link GradleLaunchConfig}.
+         * @throws IllegalArgumentException if an {@linkplain #UNSUPPORTED_ARGS unsupported argument} was supplied, if an argument conflicts with the
+         *                                  {@linkplain #performance(GradlePerformance) performance profile}, or if an {@linkplain #extraAttribute(EAttribute) extra attribute}
+         *                                  has the same key as another attribute of the config.
          */
         public GradleLaunchConfig build() {
             String workingDir = this.workingDirectory;
-            if (workingDir.isEmpty()) workingDir = "${workspace_loc:" + this.project + "}";
+            if (workingDir.isEmpty()) workingDir = StringPool.pooled(EclipseVariables.workspaceLocation(this.project));
+
+            List<String> args = copy(this.arguments);
+            List<String> jvmArgs = copy(this.jvmArguments);
+            for (String arg : args) {
+                if (UNSUPPORTED_ARGS.contains(arg)) throw new IllegalArgumentException("Unsupported gradle argument: " + arg);
+            }
+
+            if (this.performance != null) {
+                checkConflicts(this.performance, args, jvmArgs);
+                args = add(args, this.performance.arguments());
+                jvmArgs = add(jvmArgs, this.performance.jvmArguments());
+            }
+
+            TypedKeys.REGISTRY.checkExtraAttributes(this.extraAttributes);
+
+            return new GradleLaunchConfig(copy(this.tasks), workingDir, this.gradleDistribution, this.offlineMode, this.showConsoleView, this.showExecutionView, this.gradleUserHome, this.javaHome,
+                args, jvmArgs, this.overrideWorkspace, Util.copyOf(this.extraAttributes));
+        }
+
+        /**
+         * Appends values to a list of this builder, which becomes a {@link StreamingList} once a lazy source was added to it.
+         */
+        private static List<String> add(List<String> list, List<String> values) {
+            if (list instanceof StreamingList) {
+                List<String> pooled = new ArrayList<>(values.size());
+                for (String value : values) pooled.add(StringPool.pooled(value));
+                return StreamingList.concat(list, pooled::stream);
+            }
+            for (String value : values) list.add(StringPool.pooled(value));
+            return list;
+        }
+
+        private static List<String> copy(List<String> list) {
+            return list instanceof StreamingList ? list : Util.copyOf(list);
+        }
 
-            return new GradleLaunchConfig(Util.copyOf(this.tasks), workingDir, this.gradleDistribution, this.offlineMode, this.showConsoleView, this.showExecutionView, this.gradleUserHome, this.javaHome,
-                Util.copyOf(this.arguments), Util.copyOf(this.jvmArguments), this.overrideWorkspace);
+        private static void checkConflicts(GradlePerformance performance, List<String> args, List<String> jvmArgs) {
+            for (String arg : args) {
+                if (performance.parallel() && arg.equals("--no-parallel")
+                    || performance.buildCache() && arg.equals("--no-build-cache")
+                    || performance.configurationCache() && arg.equals("--no-configuration-cache")
+                    || performance.maxWorkers() > 0 && arg.startsWith("--max-workers")) {
+                    throw new IllegalArgumentException("Gradle argument " + arg + " conflicts with the performance profile " + performance);
+                }
+            }
+            if (performance.daemonHeapMb() > 0) {
+                for (String arg : jvmArgs) {
+                    if (arg.startsWith("-Xmx")) throw new IllegalArgumentException("JVM argument " + arg + " conflicts with the performance profile " + performance);
+                }
+            }
         }
 
     }
@@ -306,6 +489,11 @@ public record GradleLaunchConfig(
      */
     public static class Keys {
 
+        /**
+         * Type ID for {@link GradleLaunchConfig}.
+         */
+        public static final String TYPE = "org.eclipse.buildship.core.launch.runconfiguration";
+
         /**
          * Defines the ordered list of gradle tasks that will be run by the launch configuration.
          * Task names must be
@@ -449,4 +637,48 @@ public record GradleLaunchConfig(
         public static final String OVERRIDE_WORKSPACE = "override_workspace_settings";
 
     }
+
+    /**
+     * Holds the typed {@link AttributeKey}s of the attributes in {@link Keys}, for indexed access to baked attributes through an {@link net.neoforged.elc.attributes.AttributeTable}.
+     */
+    public static class TypedKeys {
+
+        /**
+         * The registry holding all keys known to {@link GradleLaunchConfig}.
+         */
+        public static final AttributeRegistry REGISTRY = new AttributeRegistry(Keys.TYPE);
+
+        /** Typed key for {@link Keys#TASKS}. */
+        public static final AttributeKey<ListAttribute> TASKS = REGISTRY.list(Keys.TASKS);
+
+        /** Typed key for {@link Keys#WORKING_DIR}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> WORKING_DIR = REGISTRY.primitive(Keys.WORKING_DIR);
+
+        /** Typed key for {@link Keys#GRADLE_DIST}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> GRADLE_DIST = REGISTRY.primitive(Keys.GRADLE_DIST);
+
+        /** Typed key for {@link Keys#OFFLINE_MODE}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> OFFLINE_MODE = REGISTRY.primitive(Keys.OFFLINE_MODE);
+
+        /** Typed key for {@link Keys#SHOW_CONSOLE}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> SHOW_CONSOLE = REGISTRY.primitive(Keys.SHOW_CONSOLE);
+
+        /** Typed key for {@link Keys#SHOW_EXECUTIONS}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> SHOW_EXECUTIONS = REGISTRY.primitive(Keys.SHOW_EXECUTIONS);
+
+        /** Typed key for {@link Keys#GRADLE_USER_HOME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> GRADLE_USER_HOME = REGISTRY.primitive(Keys.GRADLE_USER_HOME);
+
+        /** Typed key for {@link Keys#JAVA_HOME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> JAVA_HOME = REGISTRY.primitive(Keys.JAVA_HOME);
+
+        /** Typed key for {@link Keys#ARGUMENTS}. */
+        public static final AttributeKey<ListAttribute> ARGUMENTS = REGISTRY.list(Keys.ARGUMENTS);
+
+        /** Typed key for {@link Keys#JVM_ARGS}. */
+        public static final AttributeKey<ListAttribute> JVM_ARGS = REGISTRY.list(Keys.JVM_ARGS);
+
+        /** Typed key for {@link Keys#OVERRIDE_WORKSPACE}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> OVERRIDE_WORKSPACE = REGISTRY.primitive(Keys.OVERRIDE_WORKSPACE);
+    }
 }
@@ -0,0 +1,170 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A coherent performance profile for {@link GradleLaunchConfig}s, applied through {@link GradleLaunchConfig.Builder#performance(GradlePerformance)}.
+ * <p>
+ * Presets are available for common cases, and derive the worker count and daemon heap from the number of available cores.
+ * Since the derived values are written into the launch config, configs generated on different machines may differ unless the core count is fixed
+ * via {@link Builder#cores(int)}.
+ *
+ * @param parallel           If projects are built in parallel (<code>--parallel</code>).
+ * @param buildCache         If the <a href="https://docs.gradle.org/current/userguide/build_cache.html">build cache</a> is enabled (<code>--build-cache</code>).
+ * @param configurationCache If the <a href="https://docs.gradle.org/current/userguide/configuration_cache.html">configuration cache</a> is enabled
+ *                           (<code>--configuration-cache</code>).
+ * @param maxWorkers         The maximum number of workers (<code>--max-workers</code>), or 0 to use Gradle's default.
+ * @param daemonHeapMb       The maximum heap of the Gradle daemon in megabytes (<code>-Xmx</code>), or 0 to use Gradle's default.
+ */
+public record GradlePerformance(boolean parallel, boolean buildCache, boolean configurationCache, int maxWorkers, int daemonHeapMb) {
+
+    /**
+     * The smallest daemon heap derived by {@link Builder#cores(int)}.
+     */
+    public static final int MIN_DAEMON_HEAP_MB = 1024;
+
+    /**
+     * The largest daemon heap derived by {@link Builder#cores(int)}.
+     */
+    public static final int MAX_DAEMON_HEAP_MB = 8192;
+
+    public GradlePerformance {
+        if (maxWorkers < 0) throw new IllegalArgumentException("Max workers must not be negative: " + maxWorkers);
+        if (daemonHeapMb < 0) throw new IllegalArgumentException("Daemon heap must not be negative: " + daemonHeapMb);
+    }
+
+    /**
+     * Returns the standard preset for this machine: parallel execution and the build cache.
+     */
+    public static GradlePerformance standard() {
+        return builder().parallel(true).buildCache(true).cores(Runtime.getRuntime().availableProcessors()).build();
+    }
+
+    /**
+     * Returns the full preset for this machine, which is the {@linkplain #standard() standard preset} with the configuration cache enabled.
+     * <p>
+     * Only use this for builds that are compatible with the configuration cache.
+     */
+    public static GradlePerformance full() {
+        return builder().parallel(true).buildCache(true).configurationCache(true).cores(Runtime.getRuntime().availableProcessors()).build();
+    }
+
+    /**
+     * Creates a new builder, with every option disabled.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the Gradle arguments of this profile.
+     */
+    public List<String> arguments() {
+        List<String> args = new ArrayList<>(4);
+        if (this.parallel) args.add("--parallel");
+        if (this.buildCache) args.add("--build-cache");
+        if (this.configurationCache) args.add("--configuration-cache");
+        if (this.maxWorkers > 0) args.add(new StringBuilder("--max-workers=").append(this.maxWorkers).toString());
+        return args;
+    }
+
+    /**
+     * Returns the daemon JVM arguments of this profile.
+     */
+    public List<String> jvmArguments() {
+        return this.daemonHeapMb > 0 ? List.of(new StringBuilder("-Xmx").append(this.daemonHeapMb).append('m').toString()) : List.of();
+    }
+
+    /**
+     * Builder for {@link GradlePerformance}.
+     */
+    public static final class Builder {
+
+        private boolean parallel;
+        private boolean buildCache;
+        private boolean configurationCache;
+        private int maxWorkers;
+        private int daemonHeapMb;
+
+        private Builder() {}
+
+        /**
+         * Sets the parallel execution flag.
+         *
+         * @param parallel If projects are built in parallel.
+         * @return this
+         */
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * Sets the build cache flag.
+         *
+         * @param buildCache If the build cache is enabled.
+         * @return this
+         */
+        public Builder buildCache(boolean buildCache) {
+            this.buildCache = buildCache;
+            return this;
+        }
+
+        /**
+         * Sets the configuration cache flag.
+         *
+         * @param configurationCache If the configuration cache is enabled.
+         * @return this
+         */
+        public Builder configurationCache(boolean configurationCache) {
+            this.configurationCache = configurationCache;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of workers.
+         *
+         * @param maxWorkers The maximum number of workers, or 0 to use Gradle's default.
+         * @return this
+         */
+        public Builder maxWorkers(int maxWorkers) {
+            this.maxWorkers = maxWorkers;
+            return this;
+        }
+
+        /**
+         * Sets the maximum heap of the Gradle daemon.
+         *
+         * @param daemonHeapMb The heap size in megabytes, or 0 to use Gradle's default.
+         * @return this
+         */
+        public Builder daemonHeapMb(int daemonHeapMb) {
+            this.daemonHeapMb = daemonHeapMb;
+            return this;
+        }
+
+        /**
+         * Derives the worker count and daemon heap from a number of cores.
+         * <p>
+         * One worker is used per core, and the daemon receives 512 MB of heap per worker on top of a 512 MB baseline,
+         * clamped between {@link #MIN_DAEMON_HEAP_MB} and {@link #MAX_DAEMON_HEAP_MB}.
+         *
+         * @param cores The number of cores available to the build.
+         * @return this
+         */
+        public Builder cores(int cores) {
+            if (cores < 1) throw new IllegalArgumentException("Core count must be positive: " + cores);
+            this.maxWorkers = cores;
+            this.daemonHeapMb = Math.max(MIN_DAEMON_HEAP_MB, Math.min(MAX_DAEMON_HEAP_MB, 512 + 512 * cores));
+            return this;
+        }
+
+        /**
+         * Builds a {@link GradlePerformance}.
+         */
+        public GradlePerformance build() {
+            return new GradlePerformance(this.parallel, this.buildCache, this.configurationCache, this.maxWorkers, this.daemonHeapMb);
+        }
+    }
+}
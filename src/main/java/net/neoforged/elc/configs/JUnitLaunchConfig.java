@@ -0,0 +1,425 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.attributes.AttributeKey;
+import net.neoforged.elc.attributes.AttributeRegistry;
+import net.neoforged.elc.attributes.AttributeTable;
+import net.neoforged.elc.attributes.EAttribute;
+import net.neoforged.elc.attributes.MapAttribute;
+import net.neoforged.elc.attributes.PrimitiveAttribute;
+import net.neoforged.elc.util.StringPool;
+import net.neoforged.elc.util.Util;
+
+/**
+ * This class implements the <code>org.eclipse.jdt.junit.launchconfig</code> launch configuration type.
+ * <p>
+ * It is used for running the tests of a single class, a single test method, or every test within a container (project, source folder or package) in the Eclipse JUnit view.
+ * To split a large test suite over multiple JVMs, see {@link JUnitShardPlanner}.
+ *
+ * @param project          The name of the Eclipse project associated with the launch.
+ * @param testClass        The Fully-Qualified name of the test class to run, or null if running a container.
+ * @param testMethod       The name of the single test method to run, or null to run the entire class.
+ * @param container        The Eclipse handle identifier of the container to run, or null if running a class. See {@link Keys#ATTR_CONTAINER}.
+ * @param testKind         The test framework used to run the tests.
+ * @param keepRunning      If the test JVM will be kept alive after the tests finish, so failed tests can be rerun.
+ * @param arguments        Command-line arguments passed to the test runner before execution.
+ * @param vmArguments      Command-line arguments passed to the JVM before startup.
+ * @param envVars          Environment variables set during execution, which are {@linkplain PackedEnvironment packed} and sorted by name.
+ * @param workingDirectory The working directory for the launch config.
+ * @param jreContainer     The specific JRE to use during execution. See {@link JavaApplicationLaunchConfig.Keys#ATTR_JRE_CONTAINER_PATH}.
+ * @param extraAttributes  Any additional {@link EAttribute} values not explicitly permitted by this class that may be of relevance to the launch config.
+ */
+public record JUnitLaunchConfig(
+    String project, @Nullable String testClass, @Nullable String testMethod, @Nullable String container,
+    TestKind testKind, boolean keepRunning, List<String> arguments, List<String> vmArguments, Map<String, String> envVars,
+    @Nullable String workingDirectory, @Nullable String jreContainer, List<EAttribute> extraAttributes) implements LaunchConfig {
+
+    public JUnitLaunchConfig {
+        envVars = PackedEnvironment.of(envVars);
+    }
+
+    @Override
+    public String getType() {
+        return Keys.TYPE;
+    }
+
+    @Override
+    public AttributeRegistry getAttributeRegistry() {
+        return TypedKeys.REGISTRY;
+    }
+
+    @Override
+    public List<EAttribute> bakeAttributes() {
+        List<EAttribute> attributes = new ArrayList<>();
+
+        attributes.add(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_PROJECT_NAME, this.project));
+
+        // Eclipse expects the container to be present, and empty, when running a single class.
+        attributes.add(EAttribute.of(Keys.ATTR_CONTAINER, this.container == null ? "" : this.container));
+
+        if (this.testClass != null) {
+            attributes.add(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_MAIN_TYPE_NAME, this.testClass));
+        }
+
+        if (this.testMethod != null) {
+            attributes.add(EAttribute.of(Keys.ATTR_TEST_NAME, this.testMethod));
+        }
+
+        attributes.add(EAttribute.of(Keys.ATTR_TEST_KIND, this.testKind.id));
+        attributes.add(EAttribute.of(Keys.ATTR_KEEP_RUNNING, this.keepRunning));
+
+        attributes.add(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_PROGRAM_ARGUMENTS, JavaApplicationLaunchConfig.argsListToStr(this.arguments)));
+
+        attributes.add(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_VM_ARGUMENTS, JavaApplicationLaunchConfig.argsListToStr(this.vmArguments)));
+
+        if (this.envVars.size() > 0) {
+            attributes.add(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_ENV_VARS, PackedEnvironment.of(this.envVars).attributeValues()));
+        }
+
+        if (this.workingDirectory != null) {
+            attributes.add(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_WORKING_DIRECTORY, this.workingDirectory));
+        }
+
+        if (this.jreContainer != null) {
+            attributes.add(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_JRE_CONTAINER_PATH, this.jreContainer));
+        }
+
+        attributes.addAll(extraAttributes);
+
+        return attributes;
+    }
+
+    /**
+     * Creates a new builder for a specific Eclipse project.
+     *
+     * @param project The name of the Eclipse project the launch config is for.
+     */
+    public static Builder builder(String project) {
+        return new Builder(project);
+    }
+
+    /**
+     * The test frameworks supported by the Eclipse JUnit launcher.
+     */
+    public static enum TestKind {
+        JUNIT3("org.eclipse.jdt.junit.loader.junit3"),
+        JUNIT4("org.eclipse.jdt.junit.loader.junit4"),
+        JUNIT5("org.eclipse.jdt.junit.loader.junit5");
+
+        private final String id;
+
+        TestKind(String id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the ID of the Eclipse test loader for this test kind.
+         */
+        public String id() {
+            return this.id;
+        }
+    }
+
+    /**
+     * Builder for {@link JUnitLaunchConfig}.
+     */
+    public static final class Builder {
+
+        private String project;
+
+        @Nullable
+        private String testMethod;
+
+        private TestKind testKind = TestKind.JUNIT5;
+
+        private boolean keepRunning;
+
+        private final List<String> arguments = new ArrayList<>();
+
+        private final List<String> vmArguments = new ArrayList<>();
+
+        private final Map<String, String> envVars = new HashMap<>();
+
+        @Nullable
+        private String workingDirectory;
+
+        @Nullable
+        private String jreContainer;
+
+        private final List<EAttribute> extraAttributes = new ArrayList<>();
+
+        /**
+         * Creates a new builder for a specific Eclipse project.
+         *
+         * @param project The name of the Eclipse project the launch config is for.
+         */
+        public Builder(String project) {
+            this.project = StringPool.pooled(project);
+        }
+
+        /**
+         * Changes the target Eclipse project.
+         *
+         * @param project The name of the Eclipse project the launch config is for.
+         * @return this
+         */
+        public Builder project(String project) {
+            this.project = StringPool.pooled(project);
+            return this;
+        }
+
+        /**
+         * Restricts the launch to a single test method. Only applies to configs built with {@link #build(String)}.
+         *
+         * @param testMethod The name of the test method, or null to run the entire class.
+         * @return this
+         */
+        public Builder testMethod(@Nullable String testMethod) {
+            this.testMethod = StringPool.pooled(testMethod);
+            return this;
+        }
+
+        /**
+         * Sets the test framework used to run the tests. Defaults to {@link TestKind#JUNIT5}.
+         *
+         * @param testKind The test kind.
+         * @return this
+         */
+        public Builder testKind(TestKind testKind) {
+            this.testKind = testKind;
+            return this;
+        }
+
+        /**
+         * Sets the keep running flag. If enabled, the test JVM will be kept alive after the tests finish, so failed tests can be rerun.
+         *
+         * @param keepRunning If the test JVM will be kept alive.
+         * @return this
+         */
+        public Builder keepRunning(boolean keepRunning) {
+            this.keepRunning = keepRunning;
+            return this;
+        }
+
+        /**
+         * Adds one or more argument to the launch config, which will be passed to the test runner.
+         * <p>
+         * {@linkplain EclipseVariables eclipse variables} will be resolved in arguments.
+         *
+         * @param args The argument(s) to add.
+         * @return this
+         */
+        public Builder args(String... args) {
+            for (String arg : args) this.arguments.add(StringPool.pooled(arg));
+            return this;
+        }
+
+        /**
+         * Adds one or more JVM argument to the launch config.
+         * <p>
+         * {@linkplain EclipseVariables eclipse variables} will be resolved in arguments.
+         *
+         * @param args The argument(s) to add.
+         * @return this
+         */
+        public Builder vmArgs(String... args) {
+            for (String arg : args) this.vmArguments.add(StringPool.pooled(arg));
+            return this;
+        }
+
+        /**
+         * Adds an environment variable to the launch config.
+         * <p>
+         * Can use {@linkplain EclipseVariables eclipse variables} for value resolution, but not key resolution.
+         *
+         * @param key   The key of the env var.
+         * @param value The value of the env var.
+         * @return this
+         */
+        public Builder envVar(String key, String value) {
+            this.envVars.put(StringPool.pooled(key), StringPool.pooled(value));
+            return this;
+        }
+
+        /**
+         * Sets the working directory.
+         * <p>
+         * Can use {@linkplain EclipseVariables eclipse variables} for path resolution.
+         *
+         * @param workingDirectory The working directory.
+         * @return this
+         */
+        public Builder workingDirectory(@Nullable String workingDirectory) {
+            this.workingDirectory = StringPool.pooled(workingDirectory);
+            return this;
+        }
+
+        /**
+         * Sets the JRE that will be used during execution.
+         *
+         * @param jreContainer The target JRE.
+         * @return this
+         * @see JavaApplicationLaunchConfig.Keys#ATTR_JRE_CONTAINER_PATH
+         */
+        public Builder jreContainer(@Nullable String jreContainer) {
+            this.jreContainer = StringPool.pooled(jreContainer);
+            return this;
+        }
+
+        /**
+         * Adds an unspecified attribute to the builder.
+         *
+         * @param attr The attribute being added.
+         * @return this
+         */
+        public Builder extraAttribute(EAttribute attr) {
+            this.extraAttributes.add(attr);
+            return this;
+        }
+
+        /**
+         * Builds a {@link JUnitLaunchConfig} that runs the tests of a single class, or a single method if {@link #testMethod(String)} was set.
+         * <p>
+         * All containers (lists, maps) are copied, so further modification to this builder will not modify the built object.
+         *
+         * @param testClass The test class to run.
+         * @return A newly-constructed {@link JUnitLaunchConfig}.
+         * @throws IllegalArgumentException if an {@linkplain #extraAttribute(EAttribute) extra attribute} has the same key as another attribute of the config.
+         */
+        public JUnitLaunchConfig build(String testClass) {
+            return build(StringPool.pooled(testClass), this.testMethod, null);
+        }
+
+        /**
+         * Builds a {@link JUnitLaunchConfig} that runs every test in a container.
+         * <p>
+         * All containers (lists, maps) are copied, so further modification to this builder will not modify the built object.
+         *
+         * @param container The Eclipse handle identifier of the container. See {@link Keys#ATTR_CONTAINER}.
+         * @return A newly-constructed {@link JUnitLaunchConfig}.
+         * @throws IllegalArgumentException if an {@linkplain #extraAttribute(EAttribute) extra attribute} has the same key as another attribute of the config.
+         */
+        public JUnitLaunchConfig buildContainer(String container) {
+            return build(null, null, StringPool.pooled(container));
+        }
+
+        private JUnitLaunchConfig build(@Nullable String testClass, @Nullable String testMethod, @Nullable String container) {
+            JUnitLaunchConfig config = new JUnitLaunchConfig(this.project, testClass, testMethod, container, this.testKind, this.keepRunning, Util.copyOf(this.arguments),
+                Util.copyOf(this.vmArguments), PackedEnvironment.of(this.envVars), this.workingDirectory, this.jreContainer, Util.copyOf(this.extraAttributes));
+
+            TypedKeys.REGISTRY.checkExtraAttributes(config.extraAttributes);
+
+            return config;
+        }
+    }
+
+    /**
+     * Holds keys relevant to serialization of {@link JUnitLaunchConfig}.
+     * <p>
+     * Keys shared with {@link JavaApplicationLaunchConfig} are held by {@link JavaApplicationLaunchConfig.Keys}.
+     */
+    public static class Keys {
+
+        /**
+         * ID of the Eclipse JDT JUnit plugin, which is prefixed to the JUnit-specific keys of this launch configuration.
+         */
+        public static final String JUNIT_PLUGIN_ID = "org.eclipse.jdt.junit";
+
+        /**
+         * Type ID for {@link JUnitLaunchConfig}.
+         */
+        public static final String TYPE = JUNIT_PLUGIN_ID + ".launchconfig";
+
+        /**
+         * Defines the Eclipse handle identifier of the container whose tests will be run, such as <code>=Project</code> for a project or
+         * <code>=Project/src\/test\/java</code> for a source folder. Empty when running a single class.
+         * <p>
+         * E-Attribute type: String
+         * <br>
+         * Required: True
+         */
+        public static final String ATTR_CONTAINER = JUNIT_PLUGIN_ID + ".CONTAINER";
+
+        /**
+         * Defines the name of the single test method to run within the class specified by {@link JavaApplicationLaunchConfig.Keys#ATTR_MAIN_TYPE_NAME}.
+         * <p>
+         * E-Attribute type: String
+         * <br>
+         * Required: False
+         * <br>
+         * Default Value: All tests of the class are run.
+         */
+        public static final String ATTR_TEST_NAME = JUNIT_PLUGIN_ID + ".TESTNAME";
+
+        /**
+         * Defines the ID of the test loader used to run the tests. See {@link TestKind}.
+         * <p>
+         * E-Attribute type: String
+         * <br>
+         * Required: True
+         */
+        public static final String ATTR_TEST_KIND = JUNIT_PLUGIN_ID + ".TEST_KIND";
+
+        /**
+         * If true, the test JVM will be kept alive after the tests finish, so failed tests can be rerun.
+         * <p>
+         * E-Attribute type: Boolean
+         * <br>
+         * Required: False
+         * <br>
+         * Default Value: False
+         */
+        public static final String ATTR_KEEP_RUNNING = JUNIT_PLUGIN_ID + ".KEEPRUNNING_ATTR";
+    }
+
+    /**
+     * Holds the typed {@link AttributeKey}s of the attributes baked by {@link JUnitLaunchConfig}, for indexed access through an {@link AttributeTable}.
+     */
+    public static class TypedKeys {
+
+        /**
+         * The registry holding all keys known to {@link JUnitLaunchConfig}.
+         */
+        public static final AttributeRegistry REGISTRY = new AttributeRegistry(Keys.TYPE);
+
+        /** Typed key for {@link JavaApplicationLaunchConfig.Keys#ATTR_PROJECT_NAME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_PROJECT_NAME = REGISTRY.primitive(JavaApplicationLaunchConfig.Keys.ATTR_PROJECT_NAME);
+
+        /** Typed key for {@link Keys#ATTR_CONTAINER}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_CONTAINER = REGISTRY.primitive(Keys.ATTR_CONTAINER);
+
+        /** Typed key for {@link JavaApplicationLaunchConfig.Keys#ATTR_MAIN_TYPE_NAME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_MAIN_TYPE_NAME = REGISTRY.primitive(JavaApplicationLaunchConfig.Keys.ATTR_MAIN_TYPE_NAME);
+
+        /** Typed key for {@link Keys#ATTR_TEST_NAME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_TEST_NAME = REGISTRY.primitive(Keys.ATTR_TEST_NAME);
+
+        /** Typed key for {@link Keys#ATTR_TEST_KIND}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_TEST_KIND = REGISTRY.primitive(Keys.ATTR_TEST_KIND);
+
+        /** Typed key for {@link Keys#ATTR_KEEP_RUNNING}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_KEEP_RUNNING = REGISTRY.primitive(Keys.ATTR_KEEP_RUNNING);
+
+        /** Typed key for {@link JavaApplicationLaunchConfig.Keys#ATTR_PROGRAM_ARGUMENTS}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_PROGRAM_ARGUMENTS = REGISTRY.primitive(JavaApplicationLaunchConfig.Keys.ATTR_PROGRAM_ARGUMENTS);
+
+        /** Typed key for {@link JavaApplicationLaunchConfig.Keys#ATTR_VM_ARGUMENTS}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_VM_ARGUMENTS = REGISTRY.primitive(JavaApplicationLaunchConfig.Keys.ATTR_VM_ARGUMENTS);
+
+        /** Typed key for {@link JavaApplicationLaunchConfig.Keys#ATTR_ENV_VARS}. */
+        public static final AttributeKey<MapAttribute> ATTR_ENV_VARS = REGISTRY.map(JavaApplicationLaunchConfig.Keys.ATTR_ENV_VARS);
+
+        /** Typed key for {@link JavaApplicationLaunchConfig.Keys#ATTR_WORKING_DIRECTORY}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_WORKING_DIRECTORY = REGISTRY.primitive(JavaApplicationLaunchConfig.Keys.ATTR_WORKING_DIRECTORY);
+
+        /** Typed key for {@link JavaApplicationLaunchConfig.Keys#ATTR_JRE_CONTAINER_PATH}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_JRE_CONTAINER_PATH = REGISTRY.primitive(JavaApplicationLaunchConfig.Keys.ATTR_JRE_CONTAINER_PATH);
+    }
+}
@@ -0,0 +1,195 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import net.neoforged.elc.util.StringPool;
+
+/**
+ * Plans the distribution of a test suite over multiple JVMs, so it can be run in parallel from the IDE.
+ * <p>
+ * Test classes are assigned to shards using longest-processing-time-first bin packing over their historical durations, which keeps the slowest shard
+ * within 4/3 of the optimum. Each shard becomes a {@link JavaApplicationLaunchConfig} running the JUnit Platform
+ * <a href="https://junit.org/junit5/docs/current/user-guide/#running-tests-console-launcher">Console Launcher</a> with one
+ * <code>--select-class</code> argument per test, and all shards are started back-to-back by a {@link LaunchGroup}.
+ * <p>
+ * The Eclipse JUnit launcher ({@link JUnitLaunchConfig}) can only run a single class or an entire container, so it cannot express a shard.
+ * As such, the JUnit Platform Console Launcher (<code>org.junit.platform:junit-platform-console</code>) must be on the runtime classpath of the project,
+ * and results are reported to the console instead of the JUnit view.
+ */
+public final class JUnitShardPlanner {
+
+    /**
+     * The main class of the JUnit Platform Console Launcher.
+     */
+    public static final String CONSOLE_LAUNCHER = "org.junit.platform.console.ConsoleLauncher";
+
+    private final String name;
+    private final int shardCount;
+    private final List<TestClass> tests = new ArrayList<>();
+    private final List<String> launcherArgs = new ArrayList<>();
+    private final JavaApplicationLaunchConfig.Builder template;
+
+    private JUnitShardPlanner(String project, String name, int shardCount) {
+        if (shardCount < 1) throw new IllegalArgumentException("At least one shard is required, got " + shardCount);
+        this.name = StringPool.pooled(name);
+        this.shardCount = shardCount;
+        // Large shards produce long command lines, which an argument file avoids.
+        this.template = JavaApplicationLaunchConfig.builder(project).useArgumentsFile();
+    }
+
+    /**
+     * Creates a new planner.
+     *
+     * @param project    The name of the Eclipse project holding the tests.
+     * @param name       The name of the launch group. Shards are named <code>"&lt;name&gt; - Shard &lt;n&gt;"</code>.
+     * @param shardCount The maximum number of shards (JVMs) to split the tests over.
+     */
+    public static JUnitShardPlanner create(String project, String name, int shardCount) {
+        return new JUnitShardPlanner(project, name, shardCount);
+    }
+
+    /**
+     * Adds a test class to the suite.
+     *
+     * @param className      The Fully-Qualified name of the test class.
+     * @param durationMillis The historical duration of the class, in milliseconds.
+     * @return this
+     */
+    public JUnitShardPlanner test(String className, long durationMillis) {
+        this.tests.add(new TestClass(StringPool.pooled(className), durationMillis));
+        return this;
+    }
+
+    /**
+     * Adds test classes to the suite.
+     *
+     * @param tests The test classes.
+     * @return this
+     */
+    public JUnitShardPlanner tests(Iterable<TestClass> tests) {
+        for (TestClass test : tests) this.tests.add(test);
+        return this;
+    }
+
+    /**
+     * Adds one or more arguments passed to the Console Launcher of every shard, such as <code>--details=tree</code>.
+     *
+     * @param args The argument(s) to add.
+     * @return this
+     */
+    public JUnitShardPlanner launcherArgs(String... args) {
+        for (String arg : args) this.launcherArgs.add(StringPool.pooled(arg));
+        return this;
+    }
+
+    /**
+     * Returns the builder used as a template for the shard configs, which may be used to set JVM arguments, environment variables, the JRE, and so on.
+     * <p>
+     * Program arguments set on the template are passed to every shard before the test selectors.
+     */
+    public JavaApplicationLaunchConfig.Builder template() {
+        return this.template;
+    }
+
+    /**
+     * Assigns the tests to shards and builds the launch configs of the plan.
+     *
+     * @return The planned shards and the launch group that runs them.
+     */
+    public ShardPlan plan() {
+        List<TestClass> sorted = new ArrayList<>(this.tests);
+        sorted.sort(Comparator.comparingLong(TestClass::durationMillis).reversed().thenComparing(TestClass::className));
+
+        int count = Math.min(this.shardCount, sorted.size());
+        List<List<TestClass>> assigned = new ArrayList<>(count);
+        long[] totals = new long[count];
+        // Ties are broken on the shard index, so the plan is deterministic.
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(1, count), Comparator.<Integer>comparingLong(i -> totals[i]).thenComparingInt(i -> i));
+        for (int i = 0; i < count; i++) {
+            assigned.add(new ArrayList<>());
+            queue.add(i);
+        }
+
+        for (TestClass test : sorted) {
+            int shard = queue.poll();
+            assigned.get(shard).add(test);
+            totals[shard] += test.durationMillis();
+            queue.add(shard);
+        }
+
+        List<Shard> shards = new ArrayList<>(count);
+        LaunchGroup.Builder group = LaunchGroup.builder();
+        for (int i = 0; i < count; i++) {
+            String shardName = StringPool.pooled(this.name + " - Shard " + (i + 1));
+            shards.add(new Shard(shardName, List.copyOf(assigned.get(i)), totals[i], buildShard(assigned.get(i))));
+            group.entry(LaunchGroup.entry(shardName).mode(LaunchGroup.Mode.INHERIT).action(LaunchGroup.Action.none()));
+        }
+
+        return new ShardPlan(this.name, List.copyOf(shards), group.build());
+    }
+
+    private JavaApplicationLaunchConfig buildShard(List<TestClass> tests) {
+        JavaApplicationLaunchConfig base = this.template.build(CONSOLE_LAUNCHER);
+        List<String> args = new ArrayList<>(base.arguments().size() + this.launcherArgs.size() + tests.size());
+        args.addAll(base.arguments());
+        args.addAll(this.launcherArgs);
+        for (TestClass test : tests) {
+            args.add("--select-class=" + test.className());
+        }
+
+        return new JavaApplicationLaunchConfig(base.project(), base.mainClass(), base.moduleName(), args, base.vmArguments(), base.envVars(), base.workingDirectory(),
+            base.stopInMain(), base.jreContainer(), base.extraAttributes(), base.useArgumentsFile(), base.classpath(), base.modulepath(), base.sourceLookup());
+    }
+
+    /**
+     * A test class and its historical duration.
+     *
+     * @param className      The Fully-Qualified name of the test class.
+     * @param durationMillis The historical duration of the class, in milliseconds.
+     */
+    public static record TestClass(String className, long durationMillis) {}
+
+    /**
+     * A single shard of a plan.
+     *
+     * @param name          The name of the shard's launch config.
+     * @param tests         The tests assigned to the shard, longest first.
+     * @param totalMillis   The sum of the historical durations of the tests.
+     * @param config        The launch config running the shard.
+     */
+    public static record Shard(String name, List<TestClass> tests, long totalMillis, JavaApplicationLaunchConfig config) {}
+
+    /**
+     * The result of planning a test suite.
+     *
+     * @param name   The name of the launch group.
+     * @param shards The planned shards, which are never empty.
+     * @param group  The launch group that starts every shard.
+     */
+    public static record ShardPlan(String name, List<Shard> shards, LaunchGroup group) {
+
+        /**
+         * Returns all launch configs of the plan keyed by name, with the shards first and the group last.
+         */
+        public Map<String, LaunchConfig> configs() {
+            Map<String, LaunchConfig> configs = new LinkedHashMap<>();
+            for (Shard shard : this.shards) configs.put(shard.name(), shard.config());
+            configs.put(this.name, this.group);
+            return configs;
+        }
+
+        /**
+         * Returns the total duration of the slowest shard, which is the expected duration of the suite.
+         */
+        public long makespanMillis() {
+            long max = 0;
+            for (Shard shard : this.shards) max = Math.max(max, shard.totalMillis());
+            return max;
+        }
+    }
+}
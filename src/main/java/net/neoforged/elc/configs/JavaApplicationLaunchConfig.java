@@ -8,8 +8,14 @@ import java.util.Map;
 import org.jetbrains.annotations.Nullable;
 
 import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.attributes.AttributeKey;
+import net.neoforged.elc.attributes.AttributeRegistry;
+import net.neoforged.elc.attributes.AttributeTable;
 import net.neoforged.elc.attributes.EAttribute;
-import net.neoforged.elc.attributes.EValue;
+import net.neoforged.elc.attributes.MapAttribute;
+import net.neoforged.elc.attributes.MementoListAttribute;
+import net.neoforged.elc.attributes.PrimitiveAttribute;
+import net.neoforged.elc.util.StringPool;
 import net.neoforged.elc.util.Util;
 
 /**
@@ -21,23 +27,37 @@ import net.neoforged.elc.util.Util;
  * @param mainClass        The Fully-Qualified name of the main class to launch.
  * @param arguments        Command-line arguments passed to the program before execution.
  * @param vmArguments      Command-line arguments passed to the JVM before startup.
- * @param envVars          Environment variables set during execution.
+ * @param envVars          Environment variables set during execution, which are {@linkplain PackedEnvironment packed} and sorted by name.
  * @param workingDirectory The working directory for the launch config.
  * @param stopInMain       If execution will pause in main when entered.
  * @param jreContainer     The specific JRE to use during execution. See {@link Keys#ATTR_JRE_CONTAINER_PATH}.
  * @param extraAttributes  Any additional {@link EAttribute} values not explicitly permitted by this class that may be of relevance to the launch config.
+ * @param useArgumentsFile If the launch will pass arguments through an argument file.
+ * @param classpath        The runtime classpath. If empty, the default classpath of the project is used.
+ * @param modulepath       The runtime module path. If empty, the default module path of the project is used.
+ * @param sourceLookup     The source lookup path used by the debugger. If null, the default source lookup path is used.
  */
 public record JavaApplicationLaunchConfig(
     String project, String mainClass, @Nullable String moduleName,
     List<String> arguments, List<String> vmArguments, Map<String, String> envVars,
     @Nullable String workingDirectory, boolean stopInMain, @Nullable String jreContainer,
-    List<EAttribute> extraAttributes, boolean useArgumentsFile) implements LaunchConfig {
+    List<EAttribute> extraAttributes, boolean useArgumentsFile, List<ClasspathEntry> classpath,
+    List<ClasspathEntry> modulepath, @Nullable SourceLookup sourceLookup) implements LaunchConfig {
+
+    public JavaApplicationLaunchConfig {
+        envVars = PackedEnvironment.of(envVars);
+    }
 
     @Override
     public String getType() {
         return "org.eclipse.jdt.launching.localJavaApplication";
     }
 
+    @Override
+    public AttributeRegistry getAttributeRegistry() {
+        return TypedKeys.REGISTRY;
+    }
+
     @Override
     public List<EAttribute> bakeAttributes() {
         List<EAttribute> attributes = new ArrayList<>();
@@ -55,11 +75,8 @@ public record JavaApplicationLaunchConfig(
         attributes.add(EAttribute.of(Keys.ATTR_VM_ARGUMENTS, argsListToStr(this.vmArguments)));
 
         if (this.envVars.size() > 0) {
-            Map<String, EValue<?>> copy = new HashMap<>();
-            for (Map.Entry<String, String> entry : this.envVars.entrySet()) {
-                copy.put(entry.getKey(), EValue.of(entry.getValue()));
-            }
-            attributes.add(EAttribute.of(Keys.ATTR_ENV_VARS, copy));
+            // Packed by the constructor, so the attribute values are cached rather than rebuilt per bake.
+            attributes.add(EAttribute.of(Keys.ATTR_ENV_VARS, ((PackedEnvironment) this.envVars).attributeValues()));
         }
 
         if (this.workingDirectory != null) {
@@ -74,13 +91,32 @@ public record JavaApplicationLaunchConfig(
         
         attributes.add(EAttribute.of(Keys.ATTR_USE_ARGFILE, this.useArgumentsFile));
 
+        if (!this.classpath.isEmpty() || !this.modulepath.isEmpty()) {
+            attributes.add(EAttribute.of(Keys.ATTR_DEFAULT_CLASSPATH, false));
+        }
+
+        if (!this.classpath.isEmpty()) {
+            attributes.add(new MementoListAttribute(Keys.ATTR_CLASSPATH, this.classpath));
+        }
+
+        if (!this.modulepath.isEmpty()) {
+            attributes.add(new MementoListAttribute(Keys.ATTR_MODULEPATH, this.modulepath));
+        }
+
+        if (this.sourceLookup != null) {
+            attributes.add(EAttribute.of(Keys.ATTR_SOURCE_LOCATOR_ID, SourceLookup.JAVA_SOURCE_LOOKUP_DIRECTOR));
+            attributes.add(EAttribute.of(Keys.ATTR_SOURCE_LOCATOR_MEMENTO, this.sourceLookup, SourceLookup::toMemento));
+        }
+
         attributes.addAll(extraAttributes);
 
         return attributes;
     }
 
     public static String argsListToStr(List<String> list) {
-        return list.stream().collect(StringBuilder::new, (sb, str) -> sb.append(" ").append(str), (sb1, sb2) -> sb1.append(sb2.toString())).toString();
+        StringBuilder builder = new StringBuilder();
+        for (String str : list) builder.append(' ').append(str);
+        return builder.toString();
     }
 
     /**
@@ -92,6 +128,23 @@ public record JavaApplicationLaunchConfig(
         return new Builder(project);
     }
 
+    /**
+     * Creates a new builder holding a copy of all values of this launch config, which can be used to derive variants of it.
+     * <p>
+     * The main class is not held by builders, and must be passed again to {@link Builder#build(String)}, typically as {@link #mainClass()}.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder(this.project).moduleName(this.moduleName).workingDirectory(this.workingDirectory).stopInMain(this.stopInMain)
+            .jreContainer(this.jreContainer).useArgumentsFile(this.useArgumentsFile).sourceLookup(this.sourceLookup);
+        builder.arguments.addAll(this.arguments);
+        builder.vmArguments.addAll(this.vmArguments);
+        builder.environment = (PackedEnvironment) this.envVars;
+        builder.extraAttributes.addAll(this.extraAttributes);
+        builder.classpath.addAll(this.classpath);
+        builder.modulepath.addAll(this.modulepath);
+        return builder;
+    }
+
     /**
      * Builder for {@link JavaApplicationLaunchConfig}.
      */
@@ -108,6 +161,8 @@ public record JavaApplicationLaunchConfig(
 
         Map<String, String> envVars = new HashMap<>();
 
+        PackedEnvironment environment = PackedEnvironment.EMPTY;
+
         @Nullable
         String workingDirectory;
 
@@ -120,13 +175,22 @@ public record JavaApplicationLaunchConfig(
         
         boolean useArgumentsFile = false;
 
+        List<ClasspathEntry> classpath = new ArrayList<>();
+
+        List<ClasspathEntry> modulepath = new ArrayList<>();
+
+        @Nullable
+        SourceLookup sourceLookup;
+
+        private final List<JvmProfile> profiles = new ArrayList<>();
+
         /**
          * Creates a new builder for a specific Eclipse project.
          * 
          * @param project The name of the Eclipse project the launch config is for.
          */
         public Builder(String project) {
-            this.project = project;
+            this.project = StringPool.pooled(project);
         }
 
         /**
@@ -136,7 +200,7 @@ public record JavaApplicationLaunchConfig(
          * @return this
          */
         public Builder project(String project) {
-            this.project = project;
+            this.project = StringPool.pooled(project);
             return this;
         }
 
@@ -147,7 +211,7 @@ public record JavaApplicationLaunchConfig(
          * @return this
          */
         public Builder moduleName(@Nullable String moduleName) {
-            this.moduleName = moduleName;
+            this.moduleName = StringPool.pooled(moduleName);
             return this;
         }
 
@@ -160,7 +224,7 @@ public record JavaApplicationLaunchConfig(
          * @return this
          */
         public Builder args(String... args) {
-            for (String arg : args) this.arguments.add(arg);
+            for (String arg : args) this.arguments.add(StringPool.pooled(arg));
             return this;
         }
 
@@ -173,7 +237,7 @@ public record JavaApplicationLaunchConfig(
          * @return this
          */
         public Builder vmArgs(String... args) {
-            for (String arg : args) this.vmArguments.add(arg);
+            for (String arg : args) this.vmArguments.add(StringPool.pooled(arg));
             return this;
         }
 
@@ -187,12 +251,10 @@ public record JavaApplicationLaunchConfig(
          * @return this
          */
         public Builder envVar(String key, String value) {
-            this.envVars.put(key, value);
+            this.envVars.put(StringPool.pooled(key), StringPool.pooled(value));
             return this;
         }
-        
-        
-        
+
         /**
          * Adds all environment variables to the launch config.
          * <p>
@@ -202,7 +264,20 @@ public record JavaApplicationLaunchConfig(
          * @return this
          */
         public Builder envVar(Map<String, String> values) {
-            this.envVars.putAll(values);
+            return environment(values);
+        }
+
+        /**
+         * Layers a set of environment variables over the environment variables added so far, which are overridden by variables of the same name.
+         * <p>
+         * Layering {@linkplain PackedEnvironment packed environments}, such as shared base and profile environments, avoids copying them for every launch config.
+         *
+         * @param layer The environment variables to layer.
+         * @return this
+         */
+        public Builder environment(Map<String, String> layer) {
+            this.environment = this.environment.with(this.envVars).with(layer);
+            this.envVars.clear();
             return this;
         }
 
@@ -215,7 +290,7 @@ public record JavaApplicationLaunchConfig(
          * @return this
          */
         public Builder workingDirectory(@Nullable String workingDirectory) {
-            this.workingDirectory = workingDirectory;
+            this.workingDirectory = StringPool.pooled(workingDirectory);
             return this;
         }
 
@@ -238,7 +313,7 @@ public record JavaApplicationLaunchConfig(
          * @see Keys#ATTR_JRE_CONTAINER_PATH
          */
         public Builder jreContainer(@Nullable String jreContainer) {
-            this.jreContainer = jreContainer;
+            this.jreContainer = StringPool.pooled(jreContainer);
             return this;
         }
 
@@ -273,6 +348,81 @@ public record JavaApplicationLaunchConfig(
             return useArgumentsFile(true);
         }
 
+        /**
+         * Adds one or more entries to the runtime classpath, replacing the default classpath of the project.
+         * <p>
+         * The default classpath can be retained by also adding {@link ClasspathEntry#defaultClasspath(String)}.
+         *
+         * @param entries The classpath entries to add, in order.
+         * @return this
+         */
+        public Builder classpath(ClasspathEntry... entries) {
+            for (ClasspathEntry entry : entries) this.classpath.add(entry);
+            return this;
+        }
+
+        /**
+         * Adds entries to the runtime classpath, replacing the default classpath of the project.
+         *
+         * @param entries The classpath entries to add, in order.
+         * @return this
+         * @see #classpath(ClasspathEntry...)
+         */
+        public Builder classpath(Iterable<ClasspathEntry> entries) {
+            for (ClasspathEntry entry : entries) this.classpath.add(entry);
+            return this;
+        }
+
+        /**
+         * Adds one or more entries to the runtime module path, replacing the default module path of the project.
+         * <p>
+         * Entries are placed on the module path regardless of their {@linkplain ClasspathEntry#property() classpath property}.
+         *
+         * @param entries The module path entries to add, in order.
+         * @return this
+         */
+        public Builder modulepath(ClasspathEntry... entries) {
+            for (ClasspathEntry entry : entries) this.modulepath.add(entry.withProperty(ClasspathEntry.Property.MODULE_PATH));
+            return this;
+        }
+
+        /**
+         * Adds entries to the runtime module path, replacing the default module path of the project.
+         *
+         * @param entries The module path entries to add, in order.
+         * @return this
+         * @see #modulepath(ClasspathEntry...)
+         */
+        public Builder modulepath(Iterable<ClasspathEntry> entries) {
+            for (ClasspathEntry entry : entries) this.modulepath.add(entry.withProperty(ClasspathEntry.Property.MODULE_PATH));
+            return this;
+        }
+
+        /**
+         * Sets the source lookup path used by the debugger.
+         *
+         * @param sourceLookup The source lookup path, or null to use the default.
+         * @return this
+         * @see SourceLookup#builder()
+         */
+        public Builder sourceLookup(@Nullable SourceLookup sourceLookup) {
+            this.sourceLookup = sourceLookup;
+            return this;
+        }
+
+        /**
+         * Applies a JVM tuning profile to the launch config. The flags of all profiles are appended to the VM arguments when the config is built,
+         * skipping flags that are already present.
+         *
+         * @param profile The profile to apply.
+         * @return this
+         * @see JvmProfile#and(JvmProfile)
+         */
+        public Builder profile(JvmProfile profile) {
+            this.profiles.add(profile);
+            return this;
+        }
+
         /**
          * Builds a {@link JavaApplicationLaunchConfig} targetting a specific main class.
          * <p>
@@ -280,10 +430,22 @@ public record JavaApplicationLaunchConfig(
          * 
          * @param mainClass The main class to launch.
          * @return A newly-constructed {@link JavaApplicationLaunchConfig}.
+         * @throws IllegalArgumentException if an {@linkplain #extraAttribute(EAttribute) extra attribute} has the same key as another attribute of the config,
+         *                                  or if a {@linkplain #profile(JvmProfile) profile} conflicts with the VM arguments or another profile.
          */
         public JavaApplicationLaunchConfig build(String mainClass) {
-            return new JavaApplicationLaunchConfig(this.project, mainClass, this.moduleName, Util.copyOf(this.arguments), Util.copyOf(this.vmArguments), Util.copyOf(this.envVars), this.workingDirectory, this.stopInMain,
-                this.jreContainer, Util.copyOf(this.extraAttributes), useArgumentsFile);
+            List<String> vmArgs = this.vmArguments;
+            for (JvmProfile profile : this.profiles) {
+                vmArgs = JvmProfile.merge(vmArgs, profile.vmArguments(), profile.name());
+            }
+
+            JavaApplicationLaunchConfig config = new JavaApplicationLaunchConfig(this.project, StringPool.pooled(mainClass), this.moduleName, Util.copyOf(this.arguments), Util.copyOf(vmArgs), this.environment.with(this.envVars), this.workingDirectory, this.stopInMain,
+                this.jreContainer, Util.copyOf(this.extraAttributes), useArgumentsFile, Util.copyOf(this.classpath), Util.copyOf(this.modulepath),
+                this.sourceLookup);
+
+            TypedKeys.REGISTRY.checkExtraAttributes(config.extraAttributes);
+
+            return config;
         }
     }
 
@@ -420,5 +582,116 @@ public record JavaApplicationLaunchConfig(
          * Default Value: False
          */
         public static final String ATTR_USE_ARGFILE = LAUNCHING_PLUGIN_ID + ".ATTR_ATTR_USE_ARGFILE";
+
+        /**
+         * Indicates whether the default classpath of the project is used. Must be false for {@link #ATTR_CLASSPATH} and {@link #ATTR_MODULEPATH} to be read.
+         * <p>
+         * E-Attribute type: Boolean
+         * <br>
+         * Required: False
+         * <br>
+         * Default Value: True
+         */
+        public static final String ATTR_DEFAULT_CLASSPATH = LAUNCHING_PLUGIN_ID + ".DEFAULT_CLASSPATH";
+
+        /**
+         * Defines the runtime classpath as an ordered list of <code>runtimeClasspathEntry</code> mementos. See {@link ClasspathEntry}.
+         * <p>
+         * E-Attribute type: List
+         * <br>
+         * Required: False
+         * <br>
+         * Default Value: The default classpath of the Eclipse project specified by {@link #ATTR_PROJECT_NAME}.
+         */
+        public static final String ATTR_CLASSPATH = LAUNCHING_PLUGIN_ID + ".CLASSPATH";
+
+        /**
+         * Defines the runtime module path as an ordered list of <code>runtimeClasspathEntry</code> mementos. See {@link ClasspathEntry}.
+         * <p>
+         * E-Attribute type: List
+         * <br>
+         * Required: False
+         * <br>
+         * Default Value: The default module path of the Eclipse project specified by {@link #ATTR_PROJECT_NAME}.
+         */
+        public static final String ATTR_MODULEPATH = LAUNCHING_PLUGIN_ID + ".MODULEPATH";
+
+        /**
+         * Defines the ID of the source locator used by the debugger. See {@link SourceLookup#JAVA_SOURCE_LOOKUP_DIRECTOR}.
+         * <p>
+         * E-Attribute type: String
+         * <br>
+         * Required: False
+         * <br>
+         * Default Value: The default source locator of the launch configuration type.
+         */
+        public static final String ATTR_SOURCE_LOCATOR_ID = "org.eclipse.debug.core.source_locator_id";
+
+        /**
+         * Defines the memento of the source locator specified by {@link #ATTR_SOURCE_LOCATOR_ID}. See {@link SourceLookup}.
+         * <p>
+         * E-Attribute type: String
+         * <br>
+         * Required: False
+         * <br>
+         * Default Value: The default source lookup path.
+         */
+        public static final String ATTR_SOURCE_LOCATOR_MEMENTO = "org.eclipse.debug.core.source_locator_memento";
+    }
+
+    /**
+     * Holds the typed {@link AttributeKey}s of the attributes in {@link Keys}, for indexed access to baked attributes through an {@link AttributeTable}.
+     */
+    public static class TypedKeys {
+
+        /**
+         * The registry holding all keys known to {@link JavaApplicationLaunchConfig}.
+         */
+        public static final AttributeRegistry REGISTRY = new AttributeRegistry(Keys.TYPE);
+
+        /** Typed key for {@link Keys#ATTR_PROJECT_NAME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_PROJECT_NAME = REGISTRY.primitive(Keys.ATTR_PROJECT_NAME);
+
+        /** Typed key for {@link Keys#ATTR_MAIN_TYPE_NAME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_MAIN_TYPE_NAME = REGISTRY.primitive(Keys.ATTR_MAIN_TYPE_NAME);
+
+        /** Typed key for {@link Keys#ATTR_MODULE_NAME}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_MODULE_NAME = REGISTRY.primitive(Keys.ATTR_MODULE_NAME);
+
+        /** Typed key for {@link Keys#ATTR_STOP_IN_MAIN}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_STOP_IN_MAIN = REGISTRY.primitive(Keys.ATTR_STOP_IN_MAIN);
+
+        /** Typed key for {@link Keys#ATTR_PROGRAM_ARGUMENTS}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_PROGRAM_ARGUMENTS = REGISTRY.primitive(Keys.ATTR_PROGRAM_ARGUMENTS);
+
+        /** Typed key for {@link Keys#ATTR_VM_ARGUMENTS}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_VM_ARGUMENTS = REGISTRY.primitive(Keys.ATTR_VM_ARGUMENTS);
+
+        /** Typed key for {@link Keys#ATTR_WORKING_DIRECTORY}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_WORKING_DIRECTORY = REGISTRY.primitive(Keys.ATTR_WORKING_DIRECTORY);
+
+        /** Typed key for {@link Keys#ATTR_JRE_CONTAINER_PATH}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_JRE_CONTAINER_PATH = REGISTRY.primitive(Keys.ATTR_JRE_CONTAINER_PATH);
+
+        /** Typed key for {@link Keys#ATTR_ENV_VARS}. */
+        public static final AttributeKey<MapAttribute> ATTR_ENV_VARS = REGISTRY.map(Keys.ATTR_ENV_VARS);
+
+        /** Typed key for {@link Keys#ATTR_USE_ARGFILE}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_USE_ARGFILE = REGISTRY.primitive(Keys.ATTR_USE_ARGFILE);
+
+        /** Typed key for {@link Keys#ATTR_DEFAULT_CLASSPATH}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_DEFAULT_CLASSPATH = REGISTRY.primitive(Keys.ATTR_DEFAULT_CLASSPATH);
+
+        /** Typed key for {@link Keys#ATTR_CLASSPATH}. */
+        public static final AttributeKey<MementoListAttribute> ATTR_CLASSPATH = REGISTRY.register(Keys.ATTR_CLASSPATH, MementoListAttribute.class);
+
+        /** Typed key for {@link Keys#ATTR_MODULEPATH}. */
+        public static final AttributeKey<MementoListAttribute> ATTR_MODULEPATH = REGISTRY.register(Keys.ATTR_MODULEPATH, MementoListAttribute.class);
+
+        /** Typed key for {@link Keys#ATTR_SOURCE_LOCATOR_ID}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_SOURCE_LOCATOR_ID = REGISTRY.primitive(Keys.ATTR_SOURCE_LOCATOR_ID);
+
+        /** Typed key for {@link Keys#ATTR_SOURCE_LOCATOR_MEMENTO}. */
+        public static final AttributeKey<PrimitiveAttribute<?>> ATTR_SOURCE_LOCATOR_MEMENTO = REGISTRY.primitive(Keys.ATTR_SOURCE_LOCATOR_MEMENTO);
     }
 }
@@ -0,0 +1,140 @@
+package net.neoforged.elc.configs;
+
+import java.time.Duration;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.EclipseVariables;
+
+/**
+ * Derives profiling twins of {@link JavaApplicationLaunchConfig}s which record a <a href="https://docs.oracle.com/en/java/javase/17/jfapi/">Java Flight Recorder</a>
+ * recording, as a replacement for {@link LaunchGroup.Mode#PROFILE}, which requires a profiler integration that Eclipse does not ship.
+ * <p>
+ * Recordings are written to <code>&lt;project location&gt;/&lt;directory&gt;/&lt;name&gt;-&lt;date&gt;.jfr</code>, so that every launch produces a new,
+ * comparable recording. The directory must already exist, as the JVM does not create it.
+ *
+ * <pre>
+ * JavaApplicationLaunchConfig profiled = JfrProfile.builder("Run Server")
+ *     .settings(JfrProfile.PROFILE)
+ *     .duration(Duration.ofMinutes(2))
+ *     .apply(config);
+ * </pre>
+ */
+public final class JfrProfile {
+
+    /**
+     * The low-overhead settings template, suitable for continuous recording.
+     */
+    public static final String DEFAULT = "default";
+
+    /**
+     * The profiling settings template, which samples more events at a higher overhead.
+     */
+    public static final String PROFILE = "profile";
+
+    /**
+     * The date format used in recording file names. Colons and spaces are avoided, as they are not valid in Windows file names
+     * and would split the recording options.
+     */
+    public static final String DATE_FORMAT = "yyyyMMdd-HHmmss";
+
+    private JfrProfile() {}
+
+    /**
+     * Creates a new builder for profiling twins.
+     *
+     * @param name The name of the recording, which is also used as the prefix of the recording file.
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Builder for profiling twins.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private String settings = PROFILE;
+        @Nullable
+        private Duration duration;
+        private String directory = "jfr";
+
+        private Builder(String name) {
+            this.name = checkOption("Name", name);
+        }
+
+        /**
+         * Sets the settings used by the recording. Defaults to {@link #PROFILE}.
+         *
+         * @param settings The name of a settings template shipped with the JDK, such as {@link #DEFAULT} or {@link #PROFILE}, or the path to a <code>.jfc</code> file.
+         * @return this
+         */
+        public Builder settings(String settings) {
+            this.settings = checkOption("Settings", settings);
+            return this;
+        }
+
+        /**
+         * Sets the duration of the recording, after which it is written and stopped. If unset, the recording is written when the application exits.
+         *
+         * @param duration The recording duration, in whole seconds, or null to record until exit.
+         * @return this
+         */
+        public Builder duration(@Nullable Duration duration) {
+            if (duration != null && duration.getSeconds() <= 0) throw new IllegalArgumentException("Recording duration must be at least one second: " + duration);
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Sets the directory holding recordings, relative to the project location. Defaults to <code>jfr</code>.
+         *
+         * @param directory The project-relative directory.
+         * @return this
+         */
+        public Builder directory(String directory) {
+            this.directory = checkOption("Directory", directory);
+            return this;
+        }
+
+        /**
+         * Returns the <code>-XX:StartFlightRecording</code> VM argument for a launch config of the given project.
+         * <p>
+         * The argument is quoted, as the project location may contain spaces once resolved.
+         *
+         * @param project The project of the launch config.
+         */
+        public String vmArgument(String project) {
+            StringBuilder sb = new StringBuilder("\"-XX:StartFlightRecording=name=").append(this.name);
+            sb.append(",settings=").append(this.settings);
+            if (this.duration != null) sb.append(",duration=").append(this.duration.getSeconds()).append('s');
+            sb.append(",filename=").append(EclipseVariables.projectLocation(project)).append('/').append(this.directory).append('/')
+                .append(this.name).append('-').append(EclipseVariables.currentDate(DATE_FORMAT)).append(".jfr\"");
+            return sb.toString();
+        }
+
+        /**
+         * Derives the profiling twin of a launch config, which is a copy of it that starts a recording.
+         *
+         * @param config The launch config to profile.
+         * @return The profiling twin.
+         * @throws IllegalArgumentException if the launch config already starts a recording.
+         */
+        public JavaApplicationLaunchConfig apply(JavaApplicationLaunchConfig config) {
+            for (String arg : config.vmArguments()) {
+                if (arg.startsWith("-XX:StartFlightRecording") || arg.startsWith("\"-XX:StartFlightRecording")) {
+                    throw new IllegalArgumentException("Launch config already starts a flight recording: " + arg);
+                }
+            }
+            return config.toBuilder().vmArgs(this.vmArgument(config.project())).build(config.mainClass());
+        }
+
+        private static String checkOption(String what, String value) {
+            if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+                throw new IllegalArgumentException(what + " must be non-empty and must not contain commas or quotes: " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.neoforged.elc.util.StringPool;
+import net.neoforged.elc.util.Util;
+
+/**
+ * A named set of JVM tuning flags, applied through {@link JavaApplicationLaunchConfig.Builder#profile(JvmProfile)}.
+ * <p>
+ * The GC profiles compute their flags from a memory budget and a core count, which are passed explicitly so that the generated
+ * configs do not depend on the machine generating them. The memory budget covers the whole process, and three quarters of it are used as heap,
+ * leaving room for metaspace, code cache and thread stacks.
+ * <p>
+ * Profiles may be {@linkplain #and(JvmProfile) composed}, such as a GC profile with the {@linkplain #debugFriendly() debug-friendly} profile.
+ * Two flags conflict if they configure the same option with different values, where all GC selection flags (such as <code>-XX:+UseG1GC</code>) configure the same option.
+ *
+ * @param name         The name of the profile.
+ * @param vmArguments  The VM arguments of the profile, in a fixed order.
+ */
+public record JvmProfile(String name, List<String> vmArguments) {
+
+    public JvmProfile {
+        vmArguments = Util.copyOf(vmArguments);
+    }
+
+    /**
+     * Returns a low-latency profile using ZGC, with a fixed-size heap to avoid resizing pauses.
+     *
+     * @param memoryMb The memory budget of the process, in megabytes.
+     * @param cores    The number of cores available to the process.
+     */
+    public static JvmProfile lowLatency(int memoryMb, int cores) {
+        int heap = heapMb(memoryMb);
+        checkCores(cores);
+        return new JvmProfile("lowLatency", List.of("-XX:+UseZGC", "-Xms" + heap + "m", "-Xmx" + heap + "m", "-XX:ConcGCThreads=" + Math.max(1, cores / 4)));
+    }
+
+    /**
+     * Returns a throughput profile using G1, with a fixed-size heap and GC threads sized to the available cores.
+     *
+     * @param memoryMb The memory budget of the process, in megabytes.
+     * @param cores    The number of cores available to the process.
+     */
+    public static JvmProfile throughput(int memoryMb, int cores) {
+        int heap = heapMb(memoryMb);
+        checkCores(cores);
+        return new JvmProfile("throughput", List.of("-XX:+UseG1GC", "-Xms" + heap + "m", "-Xmx" + heap + "m", "-XX:ParallelGCThreads=" + cores,
+            "-XX:ConcGCThreads=" + Math.max(1, (cores + 2) / 4)));
+    }
+
+    /**
+     * Returns a small-footprint profile using the Serial GC, a heap that starts small, smaller thread stacks and only the C1 compiler.
+     *
+     * @param memoryMb The memory budget of the process, in megabytes.
+     */
+    public static JvmProfile smallFootprint(int memoryMb) {
+        int heap = heapMb(memoryMb);
+        return new JvmProfile("smallFootprint", List.of("-XX:+UseSerialGC", "-Xms" + Math.max(8, heap / 8) + "m", "-Xmx" + heap + "m", "-Xss512k",
+            "-XX:TieredStopAtLevel=1"));
+    }
+
+    /**
+     * Returns a debug-friendly profile, which keeps full stack traces, includes details in null pointer messages and dumps the heap on out-of-memory errors.
+     */
+    public static JvmProfile debugFriendly() {
+        return new JvmProfile("debugFriendly", List.of("-XX:-OmitStackTraceInFastThrow", "-XX:+ShowCodeDetailsInExceptionMessages", "-XX:+HeapDumpOnOutOfMemoryError"));
+    }
+
+    /**
+     * Composes this profile with another. Flags present in both profiles are only kept once.
+     *
+     * @param other The other profile, whose flags follow the flags of this profile.
+     * @return The composed profile.
+     * @throws IllegalArgumentException if the profiles have conflicting flags.
+     */
+    public JvmProfile and(JvmProfile other) {
+        return new JvmProfile(this.name + "+" + other.name, merge(this.vmArguments, other.vmArguments, other.name));
+    }
+
+    /**
+     * Returns the option configured by a VM flag, which is used to detect conflicting flags.
+     * <p>
+     * For example, both <code>-Xmx1g</code> and <code>-XX:MaxHeapSize=1g</code> configure <code>-Xmx</code>, and <code>-XX:+UseZGC</code> configures <code>gc</code>.
+     *
+     * @param flag The VM flag, which may be quoted.
+     * @return The configured option, or the flag itself if it is not recognized.
+     */
+    public static String option(String flag) {
+        String f = flag.startsWith("\"") ? flag.substring(1) : flag;
+        if (f.startsWith("-XX:")) {
+            int eq = f.indexOf('=');
+            String name = eq >= 0 ? f.substring(4, eq) : f.substring(f.length() > 4 && (f.charAt(4) == '+' || f.charAt(4) == '-') ? 5 : 4);
+            switch (name) {
+                case "UseZGC":
+                case "UseG1GC":
+                case "UseSerialGC":
+                case "UseParallelGC":
+                case "UseShenandoahGC":
+                case "UseEpsilonGC":
+                    return "gc";
+                case "MaxHeapSize":
+                    return "-Xmx";
+                case "InitialHeapSize":
+                    return "-Xms";
+                case "ThreadStackSize":
+                    return "-Xss";
+                default:
+                    return "-XX:" + name;
+            }
+        }
+        if (f.startsWith("-Xmx") || f.startsWith("-Xms") || f.startsWith("-Xss")) return f.substring(0, 4);
+        return f;
+    }
+
+    /**
+     * Appends the flags of a profile to existing VM arguments, skipping flags that are already present.
+     *
+     * @param existing The existing VM arguments.
+     * @param added    The flags to append.
+     * @param source   The name of the source of the added flags, for error messages.
+     * @return The merged VM arguments.
+     * @throws IllegalArgumentException if an added flag conflicts with an existing one.
+     */
+    static List<String> merge(List<String> existing, List<String> added, String source) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : existing) options.put(option(arg), arg);
+
+        List<String> merged = new ArrayList<>(existing);
+        for (String arg : added) {
+            String previous = options.putIfAbsent(option(arg), arg);
+            if (previous == null) merged.add(StringPool.pooled(arg));
+            else if (!previous.equals(arg)) throw new IllegalArgumentException("VM argument " + arg + " of profile " + source + " conflicts with " + previous);
+        }
+        return merged;
+    }
+
+    private static int heapMb(int memoryMb) {
+        if (memoryMb < 64) throw new IllegalArgumentException("Memory budget must be at least 64 MB: " + memoryMb);
+        return memoryMb / 4 * 3;
+    }
+
+    private static void checkCores(int cores) {
+        if (cores < 1) throw new IllegalArgumentException("Core count must be positive: " + cores);
+    }
+}
@@ -7,7 +7,10 @@ import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 
+import net.neoforged.elc.attributes.AttributeRegistry;
+import net.neoforged.elc.attributes.BakedAttributes;
 import net.neoforged.elc.attributes.EAttribute;
+import net.neoforged.elc.util.Util;
 
 /**
  * Base interface representing any Eclipse launch configuration.
@@ -27,12 +30,66 @@ public interface LaunchConfig {
     List<EAttribute> bakeAttributes();
 
     /**
-     * Writes this launch config as XML to the given output stream.
+     * Bakes this launch configuration into a {@link BakedAttributes} view, which supports indexed lookup of the attributes returned by {@link #bakeAttributes()}.
+     * 
+     * @return A view over the baked E-Attributes of this launch config.
+     */
+    default BakedAttributes bake() {
+        return new BakedAttributes(getAttributeRegistry(), bakeAttributes());
+    }
+
+    /**
+     * Returns the registry holding the typed keys of the attributes known to this launch config type.
+     * <p>
+     * Launch config types whose attribute keys are not fixed, such as {@link LaunchGroup}, use {@link AttributeRegistry#EMPTY}.
+     */
+    default AttributeRegistry getAttributeRegistry() {
+        return AttributeRegistry.EMPTY;
+    }
+
+    /**
+     * Checks if an attribute key is owned by this launch config type, meaning that its value is entirely determined by the launch config.
+     * <p>
+     * When {@linkplain LaunchConfigPatcher patching} an existing file, attributes with owned keys are replaced, while other attributes,
+     * such as those added by Eclipse, are preserved. By default, the keys of the {@linkplain #getAttributeRegistry() attribute registry} are owned.
+     * 
+     * @param key The attribute key.
+     * @return True if the attribute is owned by this launch config type.
+     */
+    default boolean ownsAttribute(String key) {
+        return getAttributeRegistry().get(key) != null;
+    }
+
+    /**
+     * Writes this launch config as XML to the given output stream, using the {@linkplain Util#xmlOutputFactory() shared output factory}.
      * 
      * @param outputStream The target output stream.
      */
     default void write(Writer outputStream) throws XMLStreamException {
-        final XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
+        write(outputStream, Util.xmlOutputFactory());
+    }
+
+    /**
+     * Writes this launch config as XML to the given output stream, using the given factory to create XML writers.
+     * <p>
+     * Looking up an {@link XMLOutputFactory} is expensive, so callers writing many launch configs should reuse a single factory, such as the
+     * {@linkplain Util#xmlOutputFactory() shared one}.
+     * 
+     * @param outputStream  The target output stream.
+     * @param outputFactory The factory used to create XML writers.
+     */
+    default void write(Writer outputStream, XMLOutputFactory outputFactory) throws XMLStreamException {
+        write(outputStream, outputFactory, bakeAttributes());
+    }
+
+    /**
+     * Writes this launch config as XML to the given output stream, using attributes that were already {@linkplain #bakeAttributes() baked}.
+     * 
+     * @param outputStream  The target output stream.
+     * @param outputFactory The factory used to create XML writers.
+     * @param attributes    The baked attributes of this launch config.
+     */
+    default void write(Writer outputStream, XMLOutputFactory outputFactory, List<EAttribute> attributes) throws XMLStreamException {
         final XMLStreamWriter writer = outputFactory.createXMLStreamWriter(outputStream);
         writer.writeStartDocument();
         writer.writeCharacters("\n");
@@ -41,7 +98,7 @@ public interface LaunchConfig {
         writer.writeAttribute("type", getType());
         writer.writeCharacters("\n");
 
-        for (EAttribute attribute : bakeAttributes()) {
+        for (EAttribute attribute : attributes) {
             writer.writeCharacters("    ");
             attribute.write(writer, outputFactory);
             writer.writeCharacters("\n");
@@ -0,0 +1,102 @@
+package net.neoforged.elc.configs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+
+import net.neoforged.elc.util.Util;
+
+/**
+ * Writes launch configs into a ZIP archive, serializing each launch config straight into its entry without temporary files.
+ * <p>
+ * Archives are reproducible: every entry has the same {@linkplain #TIMESTAMP fixed timestamp} and no extended attributes, and the bulk methods
+ * add entries in sorted order. The same launch configs therefore always produce the same archive bytes on a given JDK.
+ *
+ * <pre>
+ * try (LaunchConfigArchive archive = new LaunchConfigArchive(Files.newOutputStream(path))) {
+ *     archive.addAll(registry);
+ * }
+ * </pre>
+ */
+public final class LaunchConfigArchive implements Closeable {
+
+    /**
+     * The timestamp of all entries, which is the earliest time representable by ZIP files that is not affected by time zones.
+     */
+    public static final LocalDateTime TIMESTAMP = LocalDateTime.of(1980, 2, 1, 0, 0);
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final XMLOutputFactory outputFactory = Util.xmlOutputFactory();
+
+    /**
+     * Creates a new archive writing to the given stream, which is closed when the archive is closed.
+     *
+     * @param out The output stream receiving the ZIP archive.
+     */
+    public LaunchConfigArchive(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new OutputStreamWriter(this.zip, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds a launch config to the archive.
+     *
+     * @param path   The path of the entry, such as <code>project/Run Client.launch</code>.
+     * @param config The launch config.
+     * @throws java.util.zip.ZipException if an entry with the same path was already added.
+     */
+    public void add(String path, LaunchConfig config) throws IOException {
+        ZipEntry entry = new ZipEntry(path);
+        entry.setTimeLocal(TIMESTAMP);
+        this.zip.putNextEntry(entry);
+        try {
+            config.write(this.writer, this.outputFactory);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to serialize launch config " + path, e);
+        }
+        this.writer.flush();
+        this.zip.closeEntry();
+    }
+
+    /**
+     * Adds launch configs to the archive as <code>&lt;name&gt;.launch</code> entries, in order of their names.
+     *
+     * @param configs The launch configs, keyed by name.
+     */
+    public void addAll(Map<String, ? extends LaunchConfig> configs) throws IOException {
+        for (Map.Entry<String, ? extends LaunchConfig> entry : new TreeMap<>(configs).entrySet()) {
+            this.add(entry.getKey() + ".launch", entry.getValue());
+        }
+    }
+
+    /**
+     * Adds all launch configs of a registry to the archive as <code>&lt;project&gt;/&lt;name&gt;.launch</code> entries, in order of their project and name.
+     *
+     * @param registry The registry holding the launch configs.
+     */
+    public void addAll(LaunchConfigRegistry registry) throws IOException {
+        for (Map.Entry<LaunchConfigRegistry.Key, LaunchConfig> entry : registry.entries()) {
+            this.add(entry.getKey().project() + "/" + entry.getKey().name() + ".launch", entry.getValue());
+        }
+    }
+
+    /**
+     * Writes the central directory of the archive, and closes the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        this.zip.close();
+    }
+}
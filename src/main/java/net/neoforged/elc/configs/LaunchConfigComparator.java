@@ -0,0 +1,183 @@
+package net.neoforged.elc.configs;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.util.Util;
+
+/**
+ * Compares two <code>.launch</code> documents by their content, for example a generated launch config against a golden file.
+ * <p>
+ * Both documents are streamed side by side, without building a DOM. Two documents are equal if they have the same launch config type and the same attributes,
+ * where:
+ * <ul>
+ * <li>The order of the attributes themselves is not significant, as Eclipse reorders them when saving a launch config.</li>
+ * <li>The order of the entries of <code>listAttribute</code>s is significant, while the order of the entries of <code>setAttribute</code>s
+ * and <code>mapAttribute</code>s is not.</li>
+ * <li>Whitespace and comments between elements are not significant.</li>
+ * </ul>
+ * Instead of a plain yes or no, comparing returns the first {@link Difference}, which names the differing attribute.
+ * A single comparator may be reused to compare any number of documents, but is not thread-safe.
+ */
+public final class LaunchConfigComparator {
+
+    private final XMLInputFactory inputFactory;
+
+    /**
+     * Creates a new comparator.
+     */
+    public LaunchConfigComparator() {
+        this.inputFactory = Util.newXmlInputFactory();
+    }
+
+    /**
+     * Compares two launch config documents.
+     *
+     * @param expected The expected document.
+     * @param actual   The actual document.
+     * @return The first difference between the documents, or an empty optional if they are equal.
+     * @throws XMLStreamException       if either document is not well-formed.
+     * @throws IllegalArgumentException if either document is not a launch config.
+     */
+    public Optional<Difference> compare(Reader expected, Reader actual) throws XMLStreamException {
+        XMLStreamReader left = this.inputFactory.createXMLStreamReader(expected);
+        XMLStreamReader right = this.inputFactory.createXMLStreamReader(actual);
+        try {
+            String expectedType = readType(left);
+            String actualType = readType(right);
+            if (!expectedType.equals(actualType)) return Optional.of(new Difference(null, expectedType, actualType));
+
+            // Attributes are compared as soon as both documents produced the same key, which is immediate when they are in the same order.
+            Map<String, Attribute> expectedPending = new LinkedHashMap<>();
+            Map<String, Attribute> actualPending = new LinkedHashMap<>();
+            while (true) {
+                Attribute l = readAttribute(left);
+                Attribute r = readAttribute(right);
+                if (l == null && r == null) break;
+
+                if (l != null && r != null && l.key.equals(r.key)) {
+                    if (!l.equals(r)) return Optional.of(new Difference(l.key, l.toString(), r.toString()));
+                    continue;
+                }
+                if (l != null) {
+                    Attribute match = actualPending.remove(l.key);
+                    if (match == null) expectedPending.put(l.key, l);
+                    else if (!l.equals(match)) return Optional.of(new Difference(l.key, l.toString(), match.toString()));
+                }
+                if (r != null) {
+                    Attribute match = expectedPending.remove(r.key);
+                    if (match == null) actualPending.put(r.key, r);
+                    else if (!match.equals(r)) return Optional.of(new Difference(r.key, match.toString(), r.toString()));
+                }
+            }
+
+            if (!expectedPending.isEmpty()) {
+                Attribute missing = expectedPending.values().iterator().next();
+                return Optional.of(new Difference(missing.key, missing.toString(), null));
+            }
+            if (!actualPending.isEmpty()) {
+                Attribute unexpected = actualPending.values().iterator().next();
+                return Optional.of(new Difference(unexpected.key, null, unexpected.toString()));
+            }
+            return Optional.empty();
+        } finally {
+            left.close();
+            right.close();
+        }
+    }
+
+    private static String readType(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT);
+        if (reader.getEventType() != XMLStreamConstants.START_ELEMENT || !"launchConfiguration".equals(reader.getLocalName())) {
+            throw new IllegalArgumentException("Not a launch configuration file");
+        }
+        String type = reader.getAttributeValue(null, "type");
+        return type == null ? "" : type;
+    }
+
+    @Nullable
+    private static Attribute readAttribute(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) return null;
+            if (event == XMLStreamConstants.START_ELEMENT) return readElement(reader, reader.getLocalName());
+        }
+        return null;
+    }
+
+    private static Attribute readElement(XMLStreamReader reader, String element) throws XMLStreamException {
+        String key = reader.getAttributeValue(null, "key");
+        String value = reader.getAttributeValue(null, "value");
+        List<String> entries = null;
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) continue;
+            if (entries == null) entries = new ArrayList<>();
+            entries.add(readEntry(reader));
+        }
+        if (entries != null && !"listAttribute".equals(element)) Collections.sort(entries);
+        return new Attribute(element, key == null ? "" : key, value, entries == null ? List.of() : entries);
+    }
+
+    private static String readEntry(XMLStreamReader reader) throws XMLStreamException {
+        String entry;
+        if (reader.getAttributeCount() == 1 && "value".equals(reader.getAttributeLocalName(0))) {
+            entry = reader.getAttributeValue(0);
+        } else if ("mapEntry".equals(reader.getLocalName())) {
+            entry = reader.getAttributeValue(null, "key") + "=" + reader.getAttributeValue(null, "value");
+        } else {
+            // Unknown entries are compared by their name and attributes.
+            StringBuilder builder = new StringBuilder(reader.getLocalName());
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                builder.append(' ').append(reader.getAttributeLocalName(i)).append("=\"").append(reader.getAttributeValue(i)).append('"');
+            }
+            entry = builder.toString();
+        }
+
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) depth++;
+            else if (event == XMLStreamConstants.END_ELEMENT) depth--;
+        }
+        return entry;
+    }
+
+    private static record Attribute(String element, String key, @Nullable String value, List<String> entries) {
+        @Override
+        public String toString() {
+            if (this.entries.isEmpty() && this.value != null) return this.element + " \"" + this.value + "\"";
+            return this.element + " " + this.entries;
+        }
+    }
+
+    /**
+     * A difference between two launch config documents.
+     *
+     * @param key      The key of the differing attribute, or null if the launch config types differ.
+     * @param expected A description of the expected attribute, or null if the attribute is only present in the actual document.
+     * @param actual   A description of the actual attribute, or null if the attribute is only present in the expected document.
+     */
+    public static record Difference(@Nullable String key, @Nullable String expected, @Nullable String actual) {
+        /**
+         * Returns a human-readable description of this difference.
+         */
+        public String message() {
+            if (this.key == null) return "Expected launch config type " + this.expected + " but was " + this.actual;
+            if (this.actual == null) return "Missing attribute " + this.key + ": expected " + this.expected;
+            if (this.expected == null) return "Unexpected attribute " + this.key + ": " + this.actual;
+            return "Attribute " + this.key + " differs: expected " + this.expected + " but was " + this.actual;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package net.neoforged.elc.configs;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The JDK Flight Recorder events emitted by {@link LaunchConfigWriter}.
+ * <p>
+ * Events are recorded while a flight recording is running, for example one started with <code>-XX:StartFlightRecording</code> on the Gradle daemon,
+ * and can be filtered by their names in a custom <code>.jfc</code> file.
+ * <p>
+ * Loading an event class costs hundreds of milliseconds when Flight Recorder is not running, so the writer only creates events once
+ * Flight Recorder is {@linkplain FlightRecorder#isInitialized() initialized}. Until then, emitting an event only costs a flag check.
+ */
+public final class LaunchConfigEvents {
+
+    private LaunchConfigEvents() {}
+
+    @Nullable
+    static Bake beginBake() {
+        if (!FlightRecorder.isInitialized()) return null;
+        Bake event = new Bake();
+        event.begin();
+        return event;
+    }
+
+    static void commitBake(@Nullable Bake event, String configType, int attributeCount) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.configType = configType;
+            event.attributeCount = attributeCount;
+            event.commit();
+        }
+    }
+
+    @Nullable
+    static Serialize beginSerialize() {
+        if (!FlightRecorder.isInitialized()) return null;
+        Serialize event = new Serialize();
+        event.begin();
+        return event;
+    }
+
+    static void commitSerialize(@Nullable Serialize event, String configType, int attributeCount, long bytes, boolean patched) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.configType = configType;
+            event.attributeCount = attributeCount;
+            event.bytes = bytes;
+            event.patched = patched;
+            event.commit();
+        }
+    }
+
+    @Nullable
+    static Write beginWrite() {
+        if (!FlightRecorder.isInitialized()) return null;
+        Write event = new Write();
+        event.begin();
+        return event;
+    }
+
+    static void commitWrite(@Nullable Write event, String configType, String path, long bytes) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.configType = configType;
+            event.path = path;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    static void commitSkip(String configType, String path, long bytes) {
+        if (!FlightRecorder.isInitialized()) return;
+        Skip event = new Skip();
+        if (event.shouldCommit()) {
+            event.configType = configType;
+            event.path = path;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * Emitted when the attributes of a launch config are {@linkplain LaunchConfig#bakeAttributes() baked}.
+     */
+    @Name("net.neoforged.elc.Bake")
+    @Label("Launch Config Bake")
+    @Category({ "Eclipse Launch Configs" })
+    @Description("Baking the attributes of a launch config")
+    public static final class Bake extends Event {
+        @Label("Config Type")
+        public String configType;
+
+        @Label("Attribute Count")
+        public int attributeCount;
+    }
+
+    /**
+     * Emitted when a launch config is serialized to XML, or patched into an existing file.
+     */
+    @Name("net.neoforged.elc.Serialize")
+    @Label("Launch Config Serialize")
+    @Category({ "Eclipse Launch Configs" })
+    @Description("Serializing the baked attributes of a launch config to XML")
+    public static final class Serialize extends Event {
+        @Label("Config Type")
+        public String configType;
+
+        @Label("Attribute Count")
+        public int attributeCount;
+
+        @Label("Bytes")
+        @DataAmount
+        public long bytes;
+
+        @Label("Patched")
+        public boolean patched;
+    }
+
+    /**
+     * Emitted when a launch config file is written.
+     */
+    @Name("net.neoforged.elc.Write")
+    @Label("Launch Config Write")
+    @Category({ "Eclipse Launch Configs" })
+    @Description("Writing a launch config file")
+    public static final class Write extends Event {
+        @Label("Config Type")
+        public String configType;
+
+        @Label("Path")
+        public String path;
+
+        @Label("Bytes")
+        @DataAmount
+        public long bytes;
+    }
+
+    /**
+     * Emitted when writing a launch config file is skipped because its content did not change.
+     */
+    @Name("net.neoforged.elc.Skip")
+    @Label("Launch Config Skip")
+    @Category({ "Eclipse Launch Configs" })
+    @Description("Skipping an unchanged launch config file")
+    public static final class Skip extends Event {
+        @Label("Config Type")
+        public String configType;
+
+        @Label("Path")
+        public String path;
+
+        @Label("Bytes")
+        @DataAmount
+        public long bytes;
+    }
+}
@@ -0,0 +1,172 @@
+package net.neoforged.elc.configs;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import net.neoforged.elc.attributes.EAttribute;
+import net.neoforged.elc.util.Util;
+
+/**
+ * Patches existing <code>.launch</code> files, replacing the attributes owned by a launch config while preserving all other attributes.
+ * <p>
+ * When Eclipse saves a launch config, it adds attributes of its own, such as favorite groups or mapped resources, which are lost if the file is
+ * regenerated with {@link LaunchConfig#write(Writer)}. Patching streams the existing file once, without building a DOM:
+ * <ul>
+ * <li>Attributes {@linkplain LaunchConfig#ownsAttribute(String) owned} by the launch config, or produced by it, are replaced in place by the newly baked attribute,
+ * or removed if the launch config no longer produces them.</li>
+ * <li>All other attributes are copied as they are, in their original position.</li>
+ * <li>Newly baked attributes that were not present in the file are appended.</li>
+ * </ul>
+ * If the existing file is of a different launch config type, it is not patched, and the launch config is written as is.
+ */
+public final class LaunchConfigPatcher {
+
+    private final XMLInputFactory inputFactory;
+    private final XMLOutputFactory outputFactory;
+
+    /**
+     * Creates a new patcher.
+     */
+    public LaunchConfigPatcher() {
+        this(Util.xmlOutputFactory());
+    }
+
+    /**
+     * Creates a new patcher sharing an existing output factory.
+     *
+     * @param outputFactory The factory used to create XML writers.
+     */
+    public LaunchConfigPatcher(XMLOutputFactory outputFactory) {
+        this.outputFactory = outputFactory;
+        this.inputFactory = Util.newXmlInputFactory();
+    }
+
+    /**
+     * Patches an existing launch config file.
+     *
+     * @param existing The content of the existing file.
+     * @param out      The writer receiving the patched file.
+     * @param config   The launch config.
+     * @throws XMLStreamException       if the existing file is not well-formed.
+     * @throws IllegalArgumentException if the existing file is not a launch config.
+     */
+    public void patch(Reader existing, Writer out, LaunchConfig config) throws XMLStreamException {
+        this.patch(existing, out, config, config.bakeAttributes());
+    }
+
+    /**
+     * Patches an existing launch config file, using attributes that were already {@linkplain LaunchConfig#bakeAttributes() baked}.
+     *
+     * @param existing   The content of the existing file.
+     * @param out        The writer receiving the patched file.
+     * @param config     The launch config.
+     * @param attributes The baked attributes of the launch config.
+     * @throws XMLStreamException       if the existing file is not well-formed.
+     * @throws IllegalArgumentException if the existing file is not a launch config.
+     */
+    public void patch(Reader existing, Writer out, LaunchConfig config, List<EAttribute> attributes) throws XMLStreamException {
+        XMLStreamReader reader = this.inputFactory.createXMLStreamReader(existing);
+        try {
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT);
+            if (reader.getEventType() != XMLStreamConstants.START_ELEMENT || !"launchConfiguration".equals(reader.getLocalName())) {
+                throw new IllegalArgumentException("Not a launch configuration file");
+            }
+            if (!config.getType().equals(reader.getAttributeValue(null, "type"))) {
+                config.write(out, this.outputFactory, attributes);
+                return;
+            }
+
+            Map<String, EAttribute> pending = new LinkedHashMap<>();
+            for (EAttribute attribute : attributes) pending.put(attribute.key(), attribute);
+
+            XMLStreamWriter writer = this.outputFactory.createXMLStreamWriter(out);
+            writer.writeStartDocument();
+            writer.writeCharacters("\n");
+            writer.writeStartElement("launchConfiguration");
+            writer.writeAttribute("type", config.getType());
+            writer.writeCharacters("\n");
+
+            while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+                if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) continue; // Whitespace and comments between attributes are regenerated.
+
+                String key = reader.getAttributeValue(null, "key");
+                if (key != null && (pending.containsKey(key) || config.ownsAttribute(key))) {
+                    EAttribute replacement = pending.remove(key);
+                    if (replacement != null) {
+                        writer.writeCharacters("    ");
+                        replacement.write(writer, this.outputFactory);
+                        writer.writeCharacters("\n");
+                    }
+                    skipElement(reader);
+                } else {
+                    writer.writeCharacters("    ");
+                    copyElement(reader, writer);
+                    writer.writeCharacters("\n");
+                }
+            }
+
+            for (EAttribute attribute : pending.values()) {
+                writer.writeCharacters("    ");
+                attribute.write(writer, this.outputFactory);
+                writer.writeCharacters("\n");
+            }
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) depth++;
+            else if (event == XMLStreamConstants.END_ELEMENT) depth--;
+        }
+    }
+
+    private static void copyElement(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+        int depth = 0;
+        do {
+            switch (reader.getEventType()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    writer.writeStartElement(reader.getLocalName());
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                    }
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    writer.writeEndElement();
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    writer.writeCharacters(reader.getText());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    writer.writeCData(reader.getText());
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    writer.writeComment(reader.getText());
+                    break;
+                default:
+                    break;
+            }
+            if (depth > 0) reader.next();
+        } while (depth > 0);
+    }
+}
@@ -0,0 +1,116 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread-safe collection of launch configs, keyed by project and name, which is flushed through a single {@link LaunchConfigWriter} once all configs are known.
+ * <p>
+ * Builders are not thread-safe and must be confined to the thread that uses them, but built launch configs are immutable, and may be
+ * {@linkplain #register(String, String, LaunchConfig) registered} from any thread, such as from Gradle projects configured in parallel.
+ * Registration is lock-free and never blocks, while a {@linkplain #flush(LaunchConfigWriter) flush} waits for the registrations in progress
+ * before it takes its snapshot, so that a launch config is either written by the flush or rejected, and never silently dropped.
+ *
+ * <pre>
+ * // During configuration, on any thread
+ * registry.register(project.getName(), "Run Client", config);
+ *
+ * // At the end of configuration
+ * registry.flush(new LaunchConfigWriter(name -&gt; root.resolve(name).resolve(".eclipse/configurations")).skipUnchanged(true));
+ * </pre>
+ */
+public final class LaunchConfigRegistry {
+
+    private static final long FLUSHED = 1;
+    private static final long REGISTRATION = 2;
+
+    private final ConcurrentHashMap<Key, LaunchConfig> configs = new ConcurrentHashMap<>();
+    // The flushed flag in the lowest bit, and the number of registrations in progress above it. Registrations announce themselves before
+    // checking the flag, and the flush sets the flag before waiting for the count to drop to zero, so either side always sees the other.
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Registers a launch config.
+     *
+     * @param project The name of the Eclipse project owning the launch config.
+     * @param name    The name of the launch config.
+     * @param config  The launch config.
+     * @throws IllegalArgumentException if another launch config with the same name was registered for the project.
+     * @throws IllegalStateException    if the registry was already flushed.
+     */
+    public void register(String project, String name, LaunchConfig config) {
+        LaunchConfig existing;
+        long state = this.state.getAndAdd(REGISTRATION);
+        try {
+            if ((state & FLUSHED) != 0) throw new IllegalStateException("Cannot register launch config " + name + " after the registry was flushed");
+            existing = this.configs.putIfAbsent(new Key(project, name), config);
+        } finally {
+            this.state.getAndAdd(-REGISTRATION);
+        }
+        if (existing != null && existing != config) {
+            throw new IllegalArgumentException("Duplicate launch config " + name + " in project " + project + ": " + config.getType() + " collides with " + existing.getType());
+        }
+    }
+
+    /**
+     * Returns the launch config registered under the given project and name, or null.
+     */
+    @Nullable
+    public LaunchConfig get(String project, String name) {
+        return this.configs.get(new Key(project, name));
+    }
+
+    /**
+     * Returns the number of registered launch configs.
+     */
+    public int size() {
+        return this.configs.size();
+    }
+
+    /**
+     * Returns a snapshot of the registered launch configs, sorted by project and name.
+     */
+    public List<Map.Entry<Key, LaunchConfig>> entries() {
+        List<Map.Entry<Key, LaunchConfig>> entries = new ArrayList<>(this.configs.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        return entries;
+    }
+
+    /**
+     * Writes all registered launch configs in order of their project and name, and closes the registry for further registrations.
+     *
+     * @param writer The writer used for all launch configs.
+     * @throws IllegalStateException if the registry was already flushed.
+     */
+    public void flush(LaunchConfigWriter writer) {
+        if ((this.state.getAndUpdate(state -> state | FLUSHED) & FLUSHED) != 0) throw new IllegalStateException("The registry was already flushed");
+        // Registrations only run for the duration of a map insertion, and any that start from now on are rejected.
+        while (this.state.get() != FLUSHED) Thread.onSpinWait();
+        List<Map.Entry<Key, LaunchConfig>> entries = this.entries();
+        for (Map.Entry<Key, LaunchConfig> entry : entries) {
+            writer.write(entry.getKey().project(), entry.getKey().name(), entry.getValue());
+        }
+    }
+
+    /**
+     * The key of a registered launch config.
+     *
+     * @param project The name of the Eclipse project owning the launch config.
+     * @param name    The name of the launch config.
+     */
+    public static record Key(String project, String name) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::project).thenComparing(Key::name);
+
+        @Override
+        public int compareTo(Key o) {
+            return ORDER.compare(this, o);
+        }
+    }
+}
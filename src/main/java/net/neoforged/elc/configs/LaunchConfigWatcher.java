@@ -0,0 +1,299 @@
+package net.neoforged.elc.configs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Watches the input files of launch configs, and regenerates the affected launch configs when they change.
+ * <p>
+ * Each launch config is declared as a {@linkplain Builder#unit(String, String, Collection, Supplier) unit}, which has a set of input files and a generator.
+ * The watcher indexes units by input file, so a change only regenerates the units that declared the changed file, and writes them through a
+ * {@link LaunchConfigWriter} that {@linkplain LaunchConfigWriter#skipUnchanged(boolean) skips unchanged files}.
+ * <p>
+ * Editors tend to write files several times per save, so events are debounced: once a change is seen, the watcher waits until no further change is seen
+ * for the {@linkplain Builder#debounce(Duration) debounce period} before regenerating.
+ * <p>
+ * Latency depends on the {@link WatchService} of the platform. Native implementations (Linux, Windows) report changes within milliseconds,
+ * while polling implementations (macOS) may take several seconds.
+ *
+ * <pre>
+ * try (LaunchConfigWatcher watcher = LaunchConfigWatcher.builder(writer).unit(...).build()) {
+ *     watcher.regenerateAll();
+ *     watcher.run(); // Blocks until closed from another thread.
+ * }
+ * </pre>
+ */
+public final class LaunchConfigWatcher implements Runnable, Closeable {
+
+    private final LaunchConfigWriter writer;
+    private final Map<LaunchConfigRegistry.Key, Unit> units;
+    private final Map<Path, List<Unit>> index;
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final Consumer<Result> listener;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+
+    private LaunchConfigWatcher(Builder builder) throws IOException {
+        this.writer = builder.writer;
+        this.units = new LinkedHashMap<>(builder.units);
+        this.debounceNanos = builder.debounce.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.listener = builder.listener;
+
+        this.index = new HashMap<>();
+        Set<Path> dirs = new LinkedHashSet<>();
+        for (Unit unit : this.units.values()) {
+            for (Path input : unit.inputs()) {
+                this.index.computeIfAbsent(input, k -> new ArrayList<>()).add(unit);
+                dirs.add(input.getParent());
+            }
+        }
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            for (Path dir : dirs) {
+                WatchKey key = dir.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                this.directories.put(key, dir);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.watchService.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @param writer The writer receiving regenerated launch configs. The watcher must be its only user while it runs.
+     */
+    public static Builder builder(LaunchConfigWriter writer) {
+        return new Builder(writer);
+    }
+
+    /**
+     * Regenerates all units, regardless of changes.
+     *
+     * @return The result of the regeneration.
+     */
+    public Result regenerateAll() {
+        return this.regenerate(Set.of(), this.units.values());
+    }
+
+    /**
+     * Regenerates the units affected by the given changed files, without waiting for file system events.
+     *
+     * @param changed The changed files.
+     * @return The result of the regeneration.
+     */
+    public Result changed(Collection<Path> changed) {
+        Set<Path> paths = new LinkedHashSet<>();
+        for (Path path : changed) paths.add(path.toAbsolutePath().normalize());
+        return this.regenerate(paths, this.affected(paths));
+    }
+
+    /**
+     * Watches for changes and regenerates the affected units until this watcher is {@linkplain #close() closed} or the thread is interrupted.
+     * <p>
+     * The {@linkplain Builder#listener(Consumer) listener} is notified after each regeneration. Like a failing generator, a failing listener does not stop
+     * the watcher: its exception is passed to the {@linkplain Thread#getUncaughtExceptionHandler() uncaught exception handler} of the watching thread.
+     */
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = this.watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                boolean overflow = this.drain(key, changed);
+
+                // Debounce: keep collecting until the inputs are quiet, but never delay a regeneration by more than the max delay.
+                long deadline = System.nanoTime() + this.maxDelayNanos;
+                long wait;
+                while ((wait = Math.min(this.debounceNanos, deadline - System.nanoTime())) > 0) {
+                    WatchKey next = this.watchService.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    overflow |= this.drain(next, changed);
+                }
+
+                Result result = this.regenerate(changed, overflow ? this.units.values() : this.affected(changed));
+                try {
+                    this.listener.accept(result);
+                } catch (RuntimeException e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Closed, stop watching.
+        }
+    }
+
+    /**
+     * Stops watching for changes.
+     */
+    @Override
+    public void close() {
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean drain(WatchKey key, Set<Path> changed) {
+        boolean overflow = false;
+        Path dir = this.directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) overflow = true;
+            else if (dir != null) changed.add(dir.resolve((Path) event.context()));
+        }
+        key.reset();
+        return overflow;
+    }
+
+    private Collection<Unit> affected(Set<Path> changed) {
+        Set<Unit> affected = new LinkedHashSet<>();
+        for (Path path : changed) {
+            List<Unit> units = this.index.get(path);
+            if (units != null) affected.addAll(units);
+        }
+        return affected;
+    }
+
+    private Result regenerate(Set<Path> changed, Collection<Unit> affected) {
+        long start = System.nanoTime();
+        int written = this.writer.written();
+        Map<LaunchConfigRegistry.Key, RuntimeException> failures = new LinkedHashMap<>();
+        for (Unit unit : affected) {
+            try {
+                this.writer.write(unit.key().project(), unit.key().name(), unit.generator().get());
+            } catch (RuntimeException e) {
+                failures.put(unit.key(), e);
+            }
+        }
+        return new Result(changed, affected.size(), this.writer.written() - written, failures, System.nanoTime() - start);
+    }
+
+    /**
+     * A launch config, the files it is generated from, and its generator.
+     *
+     * @param key       The project and name of the launch config.
+     * @param inputs    The absolute, normalized paths of the input files.
+     * @param generator Generates the launch config from the current content of the inputs.
+     */
+    public static record Unit(LaunchConfigRegistry.Key key, Set<Path> inputs, Supplier<? extends LaunchConfig> generator) {}
+
+    /**
+     * The result of a regeneration.
+     *
+     * @param changed      The changed files that triggered the regeneration, empty when all units were regenerated.
+     * @param regenerated  The number of units that were regenerated.
+     * @param written      The number of launch files that were written, which excludes unchanged files.
+     * @param failures     The exceptions thrown by the generators of failed units.
+     * @param elapsedNanos The time taken to regenerate, excluding the debounce period.
+     */
+    public static record Result(Set<Path> changed, int regenerated, int written, Map<LaunchConfigRegistry.Key, RuntimeException> failures, long elapsedNanos) {}
+
+    /**
+     * Builder for {@link LaunchConfigWatcher}.
+     */
+    public static final class Builder {
+
+        private final LaunchConfigWriter writer;
+        private final Map<LaunchConfigRegistry.Key, Unit> units = new LinkedHashMap<>();
+        private Duration debounce = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofMillis(500);
+        private Consumer<Result> listener = result -> {};
+
+        private Builder(LaunchConfigWriter writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * Declares a launch config and the files it is generated from.
+         *
+         * @param project   The name of the Eclipse project owning the launch config.
+         * @param name      The name of the launch config.
+         * @param inputs    The input files. Their directories must exist.
+         * @param generator Generates the launch config from the current content of the inputs.
+         * @return this
+         * @throws IllegalArgumentException if a launch config with the same name was already declared for the project.
+         */
+        public Builder unit(String project, String name, Collection<Path> inputs, Supplier<? extends LaunchConfig> generator) {
+            Set<Path> paths = new HashSet<>();
+            for (Path input : inputs) paths.add(input.toAbsolutePath().normalize());
+            LaunchConfigRegistry.Key key = new LaunchConfigRegistry.Key(project, name);
+            if (this.units.putIfAbsent(key, new Unit(key, Set.copyOf(paths), generator)) != null) {
+                throw new IllegalArgumentException("Duplicate launch config " + name + " in project " + project);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the period without changes after which a burst of changes is considered complete. Defaults to 20 milliseconds.
+         *
+         * @param debounce The debounce period.
+         * @return this
+         */
+        public Builder debounce(Duration debounce) {
+            this.debounce = debounce;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a regeneration is delayed by a continuous burst of changes. Defaults to 500 milliseconds.
+         *
+         * @param maxDelay The maximum delay.
+         * @return this
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified after each regeneration triggered by {@link LaunchConfigWatcher#run()}.
+         *
+         * @param listener The listener, called on the watching thread. Exceptions it throws are reported to the uncaught exception handler of that thread.
+         * @return this
+         */
+        public Builder listener(@Nullable Consumer<Result> listener) {
+            this.listener = listener == null ? result -> {} : listener;
+            return this;
+        }
+
+        /**
+         * Builds a {@link LaunchConfigWatcher}, and starts watching the directories of the input files.
+         *
+         * @throws IOException if a directory could not be watched.
+         */
+        public LaunchConfigWatcher build() throws IOException {
+            return new LaunchConfigWatcher(this);
+        }
+    }
+}
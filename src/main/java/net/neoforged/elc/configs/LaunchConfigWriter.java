@@ -0,0 +1,222 @@
+package net.neoforged.elc.configs;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.attributes.EAttribute;
+import net.neoforged.elc.util.Util;
+
+/**
+ * Writes launch configs to <code>.launch</code> files, reusing a single {@link XMLOutputFactory} across all writes.
+ * <p>
+ * Each launch config is written to <code>&lt;directory&gt;/&lt;name&gt;.launch</code>, where the directory is resolved from the project of the launch config.
+ * When {@linkplain #skipUnchanged(boolean) skipping unchanged files} is enabled, files whose content would not change are not rewritten,
+ * which keeps their timestamps stable and avoids triggering Eclipse's resource change listeners. When {@linkplain #patch(boolean) patching} is enabled,
+ * existing files are patched by a {@link LaunchConfigPatcher}, preserving the attributes added by Eclipse.
+ * <p>
+ * Each stage of writing a launch config emits a {@linkplain LaunchConfigEvents JFR event}, and a {@linkplain #listener(Listener) listener}
+ * may be attached to receive the {@link Metrics} of every launch config without a profiler, for example to report a {@link WriteStatistics} summary.
+ * <p>
+ * Instances of this class are not thread-safe. To write launch configs produced by multiple threads, collect them in a {@link LaunchConfigRegistry}.
+ */
+public final class LaunchConfigWriter {
+
+    private final Function<String, Path> directories;
+    private final XMLOutputFactory outputFactory = Util.xmlOutputFactory();
+    private boolean skipUnchanged;
+    @Nullable
+    private LaunchConfigPatcher patcher;
+    @Nullable
+    private Listener listener;
+    private int written;
+    private int skipped;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param directories A function resolving the name of an Eclipse project to the directory holding its launch configs.
+     */
+    public LaunchConfigWriter(Function<String, Path> directories) {
+        this.directories = directories;
+    }
+
+    /**
+     * Sets if files whose content would not change are skipped. Disabled by default.
+     *
+     * @param skipUnchanged If unchanged files are skipped.
+     * @return this
+     */
+    public LaunchConfigWriter skipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+        return this;
+    }
+
+    /**
+     * Sets if existing files are patched instead of overwritten, which preserves attributes that are not owned by the launch config. Disabled by default.
+     *
+     * @param patch If existing files are patched.
+     * @return this
+     * @see LaunchConfigPatcher
+     */
+    public LaunchConfigWriter patch(boolean patch) {
+        this.patcher = patch ? new LaunchConfigPatcher(this.outputFactory) : null;
+        return this;
+    }
+
+    /**
+     * Sets the listener notified after each launch config was written or skipped, or null to remove it.
+     *
+     * @param listener The listener.
+     * @return this
+     */
+    public LaunchConfigWriter listener(@Nullable Listener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Writes a launch config.
+     *
+     * @param project The name of the Eclipse project owning the launch config.
+     * @param name    The name of the launch config, which is also the name of its file.
+     * @param config  The launch config.
+     * @return The path of the launch config file.
+     * @throws IllegalArgumentException if the name is not a valid file name.
+     * @throws UncheckedIOException     if the file could not be written.
+     */
+    public Path write(String project, String name, LaunchConfig config) {
+        if (name.isEmpty() || name.indexOf('/') >= 0 || name.indexOf('\\') >= 0) throw new IllegalArgumentException("Invalid launch config name: " + name);
+
+        Path file = this.directories.apply(project).resolve(name.concat(".launch"));
+        String type = config.getType();
+        try {
+            byte[] existing = (this.skipUnchanged || this.patcher != null) && Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+
+            long start = System.nanoTime();
+            LaunchConfigEvents.Bake bake = LaunchConfigEvents.beginBake();
+            List<EAttribute> attributes = config.bakeAttributes();
+            LaunchConfigEvents.commitBake(bake, type, attributes.size());
+
+            long baked = System.nanoTime();
+            boolean patched = this.patcher != null && existing != null;
+            LaunchConfigEvents.Serialize serialize = LaunchConfigEvents.beginSerialize();
+            byte[] content = this.render(config, attributes, existing);
+            LaunchConfigEvents.commitSerialize(serialize, type, attributes.size(), content.length, patched);
+
+            long serialized = System.nanoTime();
+            if (this.skipUnchanged && existing != null && Arrays.equals(existing, content)) {
+                LaunchConfigEvents.commitSkip(type, file.toString(), content.length);
+                this.skipped++;
+                this.notify(project, name, type, attributes.size(), content.length, start, baked, serialized, serialized, true);
+                return file;
+            }
+
+            LaunchConfigEvents.Write write = LaunchConfigEvents.beginWrite();
+            Files.createDirectories(file.getParent());
+            Files.write(file, content);
+            LaunchConfigEvents.commitWrite(write, type, file.toString(), content.length);
+            this.written++;
+            this.notify(project, name, type, attributes.size(), content.length, start, baked, serialized, System.nanoTime(), false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write launch config " + file, e);
+        }
+        return file;
+    }
+
+    private void notify(String project, String name, String type, int attributes, int bytes, long start, long baked, long serialized, long end, boolean skipped) {
+        if (this.listener != null) {
+            this.listener.accept(new Metrics(project, name, type, attributes, bytes, baked - start, serialized - baked, end - serialized, skipped));
+        }
+    }
+
+    /**
+     * Writes multiple launch configs of a single project, in order of their names.
+     *
+     * @param project The name of the Eclipse project owning the launch configs.
+     * @param configs The launch configs, keyed by name.
+     */
+    public void writeAll(String project, Map<String, ? extends LaunchConfig> configs) {
+        String[] names = configs.keySet().toArray(new String[0]);
+        Arrays.sort(names);
+        for (String name : names) this.write(project, name, configs.get(name));
+    }
+
+    /**
+     * Returns the number of files written by this writer.
+     */
+    public int written() {
+        return this.written;
+    }
+
+    /**
+     * Returns the number of unchanged files skipped by this writer.
+     */
+    public int skipped() {
+        return this.skipped;
+    }
+
+    private byte[] render(LaunchConfig config, List<EAttribute> attributes, @Nullable byte[] existing) {
+        StringWriter out = new StringWriter(1024);
+        try {
+            if (this.patcher != null && existing != null) {
+                this.patcher.patch(new StringReader(new String(existing, StandardCharsets.UTF_8)), out, config, attributes);
+            } else {
+                config.write(out, this.outputFactory, attributes);
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to serialize launch config of type " + config.getType(), e);
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Receives the {@link Metrics} of each launch config handled by a {@link LaunchConfigWriter}.
+     * <p>
+     * Listeners are invoked on the thread writing the launch config, after its file was written or skipped.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after a launch config was written or skipped.
+         *
+         * @param metrics The metrics of the launch config.
+         */
+        void accept(Metrics metrics);
+    }
+
+    /**
+     * The metrics of writing a single launch config.
+     *
+     * @param project        The name of the Eclipse project owning the launch config.
+     * @param name           The name of the launch config.
+     * @param configType     The {@linkplain LaunchConfig#getType() type} of the launch config.
+     * @param attributeCount The number of baked attributes.
+     * @param bytes          The size of the serialized launch config.
+     * @param bakeNanos      The time spent baking the attributes.
+     * @param serializeNanos The time spent serializing or patching the launch config.
+     * @param writeNanos     The time spent writing the file, or zero if it was skipped.
+     * @param skipped        If the file was skipped because its content did not change.
+     */
+    public static record Metrics(String project, String name, String configType, int attributeCount, int bytes, long bakeNanos, long serializeNanos, long writeNanos, boolean skipped) {
+        /**
+         * Returns the total time spent on the launch config.
+         */
+        public long totalNanos() {
+            return this.bakeNanos + this.serializeNanos + this.writeNanos;
+        }
+    }
+}
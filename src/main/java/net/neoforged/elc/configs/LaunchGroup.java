@@ -9,6 +9,7 @@ import org.jetbrains.annotations.Nullable;
 import net.neoforged.elc.attributes.EAttribute;
 import net.neoforged.elc.attributes.EValue;
 import net.neoforged.elc.attributes.PrimitiveAttribute;
+import net.neoforged.elc.util.StringPool;
 import net.neoforged.elc.util.Util;
 
 /**
@@ -27,10 +28,20 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
         return "org.eclipse.debug.core.groups.GroupLaunchConfigurationType";
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Launch groups own all keys starting with {@link Keys#PREFIX}, as the number of entries may change.
+     */
+    @Override
+    public boolean ownsAttribute(String key) {
+        return key.startsWith(Keys.PREFIX);
+    }
+
     @Override
     public List<EAttribute> bakeAttributes() {
         List<EAttribute> attributes = new ArrayList<>();
-        this.entries.forEach(entry -> entry.bakeAttributes(attributes));
+        for (Entry entry : this.entries) entry.bakeAttributes(attributes);
         return attributes;
     }
 
@@ -85,7 +96,7 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
             private Action action = Action.NONE;
 
             public Builder(String name) {
-                this.name = name;
+                this.name = StringPool.pooled(name);
             }
 
             /**
@@ -276,6 +287,26 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
 
         public static final String PREFIX = "org.eclipse.debug.core.launchGroup.";
 
+        private static final String[] SUFFIXES = { ".name", ".enabled", ".adoptIfRunning", ".mode", ".action", ".actionParam" };
+        private static final int NAME = 0, ENABLED = 1, ADOPT_IF_RUNNING = 2, MODE = 3, ACTION = 4, ACTION_PARAM = 5;
+
+        // These keys are needed for every entry of every baked launch group, so the keys of the first entries are built once.
+        private static final String[][] CACHE = new String[SUFFIXES.length][32];
+
+        private static String key(int index, int suffix) {
+            String[] cache = CACHE[suffix];
+            if (index < 0 || index >= cache.length) return build(index, suffix);
+            String key = cache[index];
+            // Racing threads may both build a key, but will build equal ones.
+            if (key == null) cache[index] = key = build(index, suffix);
+            return key;
+        }
+
+        // Avoids string concatenation, which is bootstrapped on first use and would dominate the first bake in a cold JVM.
+        private static String build(int index, int suffix) {
+            return new StringBuilder(PREFIX).append(index).append(SUFFIXES[suffix]).toString();
+        }
+
         /**
          * Defines the name of the launch configuration that will be run for this index.
          * <p>
@@ -284,7 +315,7 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
          * Required: True
          */
         public static String name(int index) {
-            return PREFIX + index + ".name";
+            return key(index, NAME);
         }
 
         /**
@@ -295,7 +326,7 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
          * Required: True
          */
         public static String enabled(int index) {
-            return PREFIX + index + ".enabled";
+            return key(index, ENABLED);
         }
 
         /**
@@ -308,7 +339,7 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
          * Default Value: False
          */
         public static String adoptIfRunning(int index) {
-            return PREFIX + index + ".adoptIfRunning";
+            return key(index, ADOPT_IF_RUNNING);
         }
 
         /**
@@ -319,7 +350,7 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
          * Required: True
          */
         public static String mode(int index) {
-            return PREFIX + index + ".mode";
+            return key(index, MODE);
         }
 
         /**
@@ -332,14 +363,14 @@ public record LaunchGroup(List<Entry> entries) implements LaunchConfig {
          * Default Value: {@link Action#NONE}
          */
         public static String action(int index) {
-            return PREFIX + index + ".action";
+            return key(index, ACTION);
         }
 
         /**
          * Defines the action parameter, based on the set action.
          */
         public static String actionParam(int index) {
-            return PREFIX + index + ".actionParam";
+            return key(index, ACTION_PARAM);
         }
     }
 }
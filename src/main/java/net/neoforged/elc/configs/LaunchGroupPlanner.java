@@ -0,0 +1,260 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.configs.LaunchGroup.Action;
+import net.neoforged.elc.configs.LaunchGroup.Mode;
+import net.neoforged.elc.util.StringPool;
+
+/**
+ * Plans a {@link LaunchGroup} from a set of services with declared dependencies, ordering the entries and choosing their post-launch actions
+ * so that the group starts as fast as its dependencies allow.
+ * <p>
+ * A Launch Group blocks after an entry until that entry's {@link Action} completes, so only services that other services depend on are given a blocking action:
+ * <ul>
+ * <li>{@link Action#outputRegexp(String)} if the service declares a {@linkplain Service.Builder#readyWhen(String) readiness regex}.</li>
+ * <li>{@link Action#delay(int)} if the service declares a {@linkplain Service.Builder#readyAfter(int) readiness delay}.</li>
+ * <li>{@link Action#waitForTermination()} otherwise, which is only suitable for one-shot tasks.</li>
+ * </ul>
+ * All other services use {@link Action#NONE} and are launched as soon as their dependencies are ready. Whenever several services are ready to launch,
+ * the non-blocking ones are launched first, followed by the blocking service that heads the longest chain of blocking dependents.
+ */
+public final class LaunchGroupPlanner {
+
+    private final Map<String, Service> services = new LinkedHashMap<>();
+
+    private LaunchGroupPlanner() {}
+
+    /**
+     * Creates a new planner without any services.
+     */
+    public static LaunchGroupPlanner create() {
+        return new LaunchGroupPlanner();
+    }
+
+    /**
+     * Creates a new builder for a service.
+     *
+     * @param name The name of the launch config that runs the service.
+     * @return A new service builder.
+     */
+    public static Service.Builder service(String name) {
+        return new Service.Builder(name);
+    }
+
+    /**
+     * Adds a service to the plan.
+     *
+     * @param service A builder for the service being added.
+     * @return this
+     * @throws IllegalArgumentException if a service with the same name was already added.
+     */
+    public LaunchGroupPlanner service(Service.Builder service) {
+        Service built = service.build();
+        if (this.services.putIfAbsent(built.name(), built) != null) {
+            throw new IllegalArgumentException("Duplicate service " + built.name());
+        }
+        return this;
+    }
+
+    /**
+     * Orders the services and assigns their actions.
+     *
+     * @return A newly-constructed {@link LaunchGroup} that launches every service.
+     * @throws IllegalArgumentException if a service depends on an unknown service, or if the dependencies contain a cycle.
+     */
+    public LaunchGroup plan() {
+        List<Service> nodes = new ArrayList<>(this.services.values());
+        Map<String, Integer> indices = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) indices.put(nodes.get(i).name(), i);
+
+        int[] pending = new int[nodes.size()];
+        List<List<Integer>> dependents = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) dependents.add(new ArrayList<>());
+
+        for (int i = 0; i < nodes.size(); i++) {
+            for (String dep : nodes.get(i).dependencies()) {
+                Integer depIdx = indices.get(dep);
+                if (depIdx == null) throw new IllegalArgumentException("Service " + nodes.get(i).name() + " depends on unknown service " + dep);
+                dependents.get(depIdx).add(i);
+                pending[i]++;
+            }
+        }
+
+        int[] depth = blockingDepth(nodes, dependents, pending.clone());
+
+        List<Integer> nonBlocking = new ArrayList<>();
+        PriorityQueue<Integer> blocking = new PriorityQueue<>(Comparator.<Integer>comparingInt(i -> -depth[i]).thenComparingInt(i -> i));
+        for (int i = 0; i < nodes.size(); i++) {
+            if (pending[i] == 0) (dependents.get(i).isEmpty() ? nonBlocking : blocking).add(i);
+        }
+
+        LaunchGroup.Builder group = LaunchGroup.builder();
+        int launched = 0;
+        while (!nonBlocking.isEmpty() || !blocking.isEmpty()) {
+            // Services that nothing waits on cost nothing to start, so they go first.
+            nonBlocking.sort(null);
+            for (int i : nonBlocking) {
+                group.entry(nodes.get(i).entry(false));
+                launched++;
+            }
+            nonBlocking.clear();
+
+            if (blocking.isEmpty()) break;
+
+            int next = blocking.poll();
+            group.entry(nodes.get(next).entry(true));
+            launched++;
+            for (int dependent : dependents.get(next)) {
+                if (--pending[dependent] == 0) (dependents.get(dependent).isEmpty() ? nonBlocking : blocking).add(dependent);
+            }
+        }
+
+        if (launched != nodes.size()) {
+            List<String> cycle = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                if (pending[i] > 0) cycle.add(nodes.get(i).name());
+            }
+            throw new IllegalArgumentException("Service dependencies contain a cycle between " + cycle);
+        }
+
+        return group.build();
+    }
+
+    /**
+     * Computes, for each service, the length of the longest chain of blocking services that starts with it, which is used to prioritize blocking services on the critical path.
+     */
+    private static int[] blockingDepth(List<Service> nodes, List<List<Integer>> dependents, int[] pending) {
+        List<Integer> order = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            if (pending[i] == 0) order.add(i);
+        }
+        for (int cursor = 0; cursor < order.size(); cursor++) {
+            for (int dependent : dependents.get(order.get(cursor))) {
+                if (--pending[dependent] == 0) order.add(dependent);
+            }
+        }
+
+        int[] depth = new int[nodes.size()];
+        for (int cursor = order.size() - 1; cursor >= 0; cursor--) {
+            int node = order.get(cursor);
+            if (dependents.get(node).isEmpty()) continue;
+            int max = 0;
+            for (int dependent : dependents.get(node)) max = Math.max(max, depth[dependent]);
+            depth[node] = max + 1;
+        }
+        return depth;
+    }
+
+    /**
+     * A service that will be launched by the planned group.
+     *
+     * @param name         The name of the launch configuration of the service.
+     * @param dependencies The names of the services that must be ready before this service is launched.
+     * @param readyRegex   A regular expression matched against the output of the service to detect readiness, or null.
+     * @param readyDelay   A delay in seconds after which the service is considered ready, or zero.
+     * @param mode         The launch mode of the service.
+     */
+    public static record Service(String name, Set<String> dependencies, @Nullable String readyRegex, int readyDelay, Mode mode) {
+
+        LaunchGroup.Entry.Builder entry(boolean blocking) {
+            Action action = Action.NONE;
+            if (blocking) {
+                if (this.readyRegex != null) action = Action.outputRegexp(this.readyRegex);
+                else if (this.readyDelay > 0) action = Action.delay(this.readyDelay);
+                else action = Action.waitForTermination();
+            }
+            return LaunchGroup.entry(this.name).mode(this.mode).action(action);
+        }
+
+        /**
+         * Builder for {@link LaunchGroupPlanner.Service}.
+         */
+        public static class Builder {
+
+            private final String name;
+            private final Set<String> dependencies = new LinkedHashSet<>();
+            @Nullable
+            private String readyRegex;
+            private int readyDelay;
+            private Mode mode = Mode.INHERIT;
+
+            /**
+             * Creates a new builder for a service without dependencies, which is considered ready once it terminates.
+             *
+             * @param name The name of the launch config that runs the service.
+             */
+            public Builder(String name) {
+                this.name = StringPool.pooled(name);
+            }
+
+            /**
+             * Declares that this service can only be launched once the given services are ready.
+             *
+             * @param services The names of the services this service depends on.
+             * @return this
+             */
+            public Builder dependsOn(String... services) {
+                for (String service : services) this.dependencies.add(StringPool.pooled(service));
+                return this;
+            }
+
+            /**
+             * Sets the regular expression that is matched against the output of this service to detect that it is ready.
+             *
+             * @param regex The readiness regular expression.
+             * @return this
+             * @see Action#outputRegexp(String)
+             */
+            public Builder readyWhen(String regex) {
+                this.readyRegex = regex;
+                return this;
+            }
+
+            /**
+             * Sets a delay after which this service is considered ready. Ignored if a {@linkplain #readyWhen(String) readiness regex} is set.
+             *
+             * @param seconds The delay, in seconds.
+             * @return this
+             * @see Action#delay(int)
+             */
+            public Builder readyAfter(int seconds) {
+                this.readyDelay = seconds;
+                return this;
+            }
+
+            /**
+             * Sets the launch mode for this service.
+             *
+             * @param mode The new launch mode.
+             * @return this
+             * @see Mode
+             */
+            public Builder mode(Mode mode) {
+                this.mode = mode;
+                return this;
+            }
+
+            /**
+             * Builds a {@link Service} from the declared dependencies and readiness settings.
+             * <p>
+             * The dependencies are copied, so further modification to this builder will not modify the built object.
+             *
+             * @return A newly-constructed {@link Service}.
+             */
+            public Service build() {
+                return new Service(this.name, Collections.unmodifiableSet(new LinkedHashSet<>(this.dependencies)), this.readyRegex, this.readyDelay, this.mode);
+            }
+        }
+    }
+}
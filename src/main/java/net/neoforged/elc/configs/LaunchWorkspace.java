@@ -0,0 +1,237 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.configs.LaunchGroup.Action;
+import net.neoforged.elc.configs.LaunchGroup.Mode;
+
+/**
+ * A Launch Workspace is a set of launch configs registered by name, mirroring the launch configs Eclipse knows about.
+ * <p>
+ * Since {@link LaunchGroup.Entry#name()} refers to other launch configs by name only, the workspace is used to check that every referenced
+ * config exists and that no group (transitively) includes itself, which would hang Eclipse. It can also flatten nested groups into a single group.
+ */
+public final class LaunchWorkspace {
+
+    private final Map<String, LaunchConfig> configs = new LinkedHashMap<>();
+
+    /**
+     * Registers a launch config.
+     *
+     * @param name   The name of the launch config, which is the name of the file without the <code>.launch</code> extension.
+     * @param config The launch config.
+     * @return this
+     * @throws IllegalArgumentException if a config with the same name is already registered.
+     */
+    public LaunchWorkspace register(String name, LaunchConfig config) {
+        if (this.configs.putIfAbsent(name, config) != null) {
+            throw new IllegalArgumentException("Duplicate launch config " + name);
+        }
+        return this;
+    }
+
+    /**
+     * Registers multiple launch configs.
+     *
+     * @param configs The launch configs, keyed by name.
+     * @return this
+     * @throws IllegalArgumentException if a config with the same name is already registered.
+     */
+    public LaunchWorkspace registerAll(Map<String, ? extends LaunchConfig> configs) {
+        configs.forEach(this::register);
+        return this;
+    }
+
+    /**
+     * Looks up a launch config by name.
+     *
+     * @param name The name of the launch config.
+     * @return The launch config, or null if none is registered with that name.
+     */
+    @Nullable
+    public LaunchConfig get(String name) {
+        return this.configs.get(name);
+    }
+
+    /**
+     * Returns all registered launch configs keyed by name, in registration order.
+     */
+    public Map<String, LaunchConfig> configs() {
+        return Collections.unmodifiableMap(this.configs);
+    }
+
+    /**
+     * Checks every launch group for references to unregistered configs and for cycles. Runs in time linear to the number of configs and group entries.
+     *
+     * @return All problems found, or an empty list if the workspace is valid.
+     */
+    public List<Problem> validate() {
+        List<Problem> problems = new ArrayList<>();
+
+        for (Map.Entry<String, LaunchConfig> entry : this.configs.entrySet()) {
+            if (entry.getValue() instanceof LaunchGroup group) {
+                for (LaunchGroup.Entry child : group.entries()) {
+                    if (!this.configs.containsKey(child.name())) {
+                        problems.add(new Problem(entry.getKey(), "Entry " + child.index() + " refers to unknown launch config " + child.name()));
+                    }
+                }
+            }
+        }
+
+        // Iterative depth-first search over group-to-group references. Unvisited groups are absent from the state map.
+        Map<String, Boolean> onStack = new HashMap<>();
+        for (String root : this.configs.keySet()) {
+            if (!(this.configs.get(root) instanceof LaunchGroup) || onStack.containsKey(root)) continue;
+
+            Deque<String> path = new ArrayDeque<>();
+            Deque<Integer> cursors = new ArrayDeque<>();
+            path.push(root);
+            cursors.push(0);
+            onStack.put(root, true);
+
+            while (!path.isEmpty()) {
+                List<LaunchGroup.Entry> entries = ((LaunchGroup) this.configs.get(path.peek())).entries();
+                int cursor = cursors.pop();
+                if (cursor == entries.size()) {
+                    onStack.put(path.pop(), false);
+                    continue;
+                }
+                cursors.push(cursor + 1);
+
+                String child = entries.get(cursor).name();
+                if (!(this.configs.get(child) instanceof LaunchGroup)) continue;
+
+                Boolean state = onStack.get(child);
+                if (state == null) {
+                    path.push(child);
+                    cursors.push(0);
+                    onStack.put(child, true);
+                } else if (state) {
+                    List<String> cycle = new ArrayList<>();
+                    for (String name : path) {
+                        cycle.add(0, name);
+                        if (name.equals(child)) break;
+                    }
+                    cycle.add(child);
+                    problems.add(new Problem(child, "Launch group includes itself: " + String.join(" -> ", cycle)));
+                }
+            }
+        }
+
+        return problems;
+    }
+
+    /**
+     * Validates the workspace, throwing if any problems are found.
+     *
+     * @throws IllegalStateException if the workspace is not valid. See {@link #validate()}.
+     */
+    public void checkValid() {
+        List<Problem> problems = validate();
+        if (!problems.isEmpty()) {
+            StringBuilder sb = new StringBuilder("Invalid launch workspace:");
+            for (Problem problem : problems) sb.append("\n\t").append(problem.config()).append(": ").append(problem.message());
+            throw new IllegalStateException(sb.toString());
+        }
+    }
+
+    /**
+     * Flattens a launch group, replacing every entry that refers to another group with the entries of that group, recursively.
+     * <p>
+     * The flattened group only launches each config once, at its first position, and each nested group is only traversed once. Disabled entries are omitted.
+     * When a nested group entry specifies a {@link Mode} other than {@link Mode#INHERIT}, it is applied to the nested entries that inherit their mode.
+     * When it specifies an {@link Action}, that action is applied to the last launched entry of the nested group, even if that entry was launched
+     * earlier in the flattened group, so that the following entries still wait for the nested group.
+     *
+     * @param name The name of the launch group.
+     * @return A newly-constructed {@link LaunchGroup} that only refers to configs which are not groups.
+     * @throws IllegalArgumentException if the group does not exist, refers to unknown configs, or includes itself,
+     *                                  or if the action of a nested group entry conflicts with the action of the entry it applies to.
+     */
+    public LaunchGroup flatten(String name) {
+        if (!(this.configs.get(name) instanceof LaunchGroup group)) {
+            throw new IllegalArgumentException("Unknown launch group " + name);
+        }
+
+        List<LaunchGroup.Entry> flat = new ArrayList<>();
+        flatten(name, group, Mode.INHERIT, new HashSet<>(), new HashMap<>(), flat);
+
+        LaunchGroup.Builder builder = LaunchGroup.builder();
+        for (LaunchGroup.Entry entry : flat) {
+            builder.entry(LaunchGroup.entry(entry.name()).adoptIfRunning(entry.adoptIfRunning()).mode(entry.mode()).action(entry.action()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Flattens a group into the output list.
+     *
+     * @param positions The position in the output of every config launched so far, and of the last launched entry of every group flattened so far.
+     * @return The position in the output of the last launched entry of the group, or -1 if it launches nothing.
+     */
+    private int flatten(String name, LaunchGroup group, Mode inherited, Set<String> stack, Map<String, Integer> positions, List<LaunchGroup.Entry> out) {
+        if (!stack.add(name)) throw new IllegalArgumentException("Launch group " + name + " includes itself");
+
+        int last = -1;
+        for (LaunchGroup.Entry entry : group.entries()) {
+            if (!entry.enabled()) continue;
+
+            LaunchConfig target = this.configs.get(entry.name());
+            if (target == null) throw new IllegalArgumentException("Launch group " + name + " refers to unknown launch config " + entry.name());
+
+            Mode mode = entry.mode() == Mode.INHERIT ? inherited : entry.mode();
+            int position;
+            if (target instanceof LaunchGroup nested) {
+                // A group that was already flattened cannot launch anything new, as its configs were all launched the first time.
+                Integer flattened = positions.get(entry.name());
+                if (flattened != null) position = flattened;
+                else positions.put(entry.name(), position = flatten(entry.name(), nested, mode, stack, positions, out));
+
+                if (position >= 0 && entry.action().type() != Action.ActionType.NONE) {
+                    LaunchGroup.Entry launched = out.get(position);
+                    if (launched.action().type() == Action.ActionType.NONE) {
+                        out.set(position, new LaunchGroup.Entry(launched.index(), launched.name(), true, launched.adoptIfRunning(), launched.mode(), entry.action()));
+                    } else if (!sameAction(launched.action(), entry.action())) {
+                        throw new IllegalArgumentException("Launch group " + name + " waits for " + entry.name() + " with action " + entry.action().type()
+                                + ", but its last launched config " + launched.name() + " already has action " + launched.action().type());
+                    }
+                }
+            } else {
+                Integer launched = positions.get(entry.name());
+                if (launched != null) position = launched;
+                else {
+                    positions.put(entry.name(), position = out.size());
+                    out.add(new LaunchGroup.Entry(position, entry.name(), true, entry.adoptIfRunning(), mode, entry.action()));
+                }
+            }
+            last = Math.max(last, position);
+        }
+
+        stack.remove(name);
+        return last;
+    }
+
+    private static boolean sameAction(Action a, Action b) {
+        if (a.type() != b.type()) return false;
+        return a.param() == null ? b.param() == null : b.param() != null && a.param().value().equals(b.param().value());
+    }
+
+    /**
+     * A problem found while {@linkplain LaunchWorkspace#validate() validating} a workspace.
+     *
+     * @param config  The name of the launch config with the problem.
+     * @param message A description of the problem.
+     */
+    public static record Problem(String config, String message) {}
+}
@@ -0,0 +1,227 @@
+package net.neoforged.elc.configs;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.attributes.EValue;
+import net.neoforged.elc.attributes.MapAttribute;
+import net.neoforged.elc.util.StringPool;
+
+/**
+ * An immutable set of environment variables, stored as parallel arrays sorted by name.
+ * <p>
+ * Packed environments are built once, and can be baked any number of times without copying: the {@linkplain #attributeValues() E-Value view}
+ * used by {@link MapAttribute} is created on first use and shared by all later bakes. Environment variables are always written in sorted order,
+ * which keeps the output stable regardless of the order in which they were declared.
+ * <p>
+ * Layered environments (such as base, profile and user variables) are combined with {@link #with(Map)} or {@link #merge(Map...)},
+ * which merge the sorted arrays in linear time, with later layers overriding earlier ones.
+ */
+public final class PackedEnvironment extends AbstractMap<String, String> {
+
+    /**
+     * The empty environment.
+     */
+    public static final PackedEnvironment EMPTY = new PackedEnvironment(new String[0], new String[0]);
+
+    private final String[] keys;
+    private final String[] values;
+
+    @Nullable
+    private Set<Map.Entry<String, String>> entrySet;
+
+    @Nullable
+    private volatile Map<String, EValue<?>> attributeValues;
+
+    private PackedEnvironment(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Packs a map of environment variables.
+     *
+     * @param env The environment variables. If already packed, it is returned as is.
+     * @return The packed environment.
+     */
+    public static PackedEnvironment of(Map<String, String> env) {
+        if (env instanceof PackedEnvironment packed) return packed;
+        if (env.isEmpty()) return EMPTY;
+
+        String[] keys = new String[env.size()];
+        int i = 0;
+        for (String key : env.keySet()) keys[i++] = StringPool.pooled(Objects.requireNonNull(key, "Environment variable name"));
+        Arrays.sort(keys);
+
+        String[] values = new String[keys.length];
+        for (i = 0; i < keys.length; i++) values[i] = StringPool.pooled(Objects.requireNonNull(env.get(keys[i]), keys[i]));
+        return new PackedEnvironment(keys, values);
+    }
+
+    /**
+     * Merges layers of environment variables, where later layers override the variables of earlier layers.
+     *
+     * @param layers The layers, from lowest to highest priority.
+     * @return The merged environment.
+     */
+    @SafeVarargs
+    public static PackedEnvironment merge(Map<String, String>... layers) {
+        PackedEnvironment env = EMPTY;
+        for (Map<String, String> layer : layers) env = env.with(layer);
+        return env;
+    }
+
+    /**
+     * Returns a new environment with the variables of this environment, overridden by the variables of the overlay.
+     *
+     * @param overlay The overriding variables.
+     * @return The merged environment.
+     */
+    public PackedEnvironment with(Map<String, String> overlay) {
+        PackedEnvironment top = of(overlay);
+        if (top.keys.length == 0) return this;
+        if (this.keys.length == 0) return top;
+
+        String[] keys = new String[this.keys.length + top.keys.length];
+        String[] values = new String[keys.length];
+        int i = 0, j = 0, n = 0;
+        while (i < this.keys.length && j < top.keys.length) {
+            int cmp = this.keys[i].compareTo(top.keys[j]);
+            if (cmp < 0) {
+                keys[n] = this.keys[i];
+                values[n++] = this.values[i++];
+            } else {
+                if (cmp == 0) i++;
+                keys[n] = top.keys[j];
+                values[n++] = top.values[j++];
+            }
+        }
+        for (; i < this.keys.length; i++, n++) {
+            keys[n] = this.keys[i];
+            values[n] = this.values[i];
+        }
+        for (; j < top.keys.length; j++, n++) {
+            keys[n] = top.keys[j];
+            values[n] = top.values[j];
+        }
+        return new PackedEnvironment(n == keys.length ? keys : Arrays.copyOf(keys, n), n == values.length ? values : Arrays.copyOf(values, n));
+    }
+
+    /**
+     * Returns an immutable view of this environment as E-Values, suitable for a {@link MapAttribute}. The view is created once and shared.
+     */
+    public Map<String, EValue<?>> attributeValues() {
+        Map<String, EValue<?>> view = this.attributeValues;
+        if (view == null) {
+            EValue<?>[] wrapped = new EValue<?>[this.values.length];
+            for (int i = 0; i < wrapped.length; i++) wrapped[i] = EValue.of(this.values[i]);
+            this.attributeValues = view = new View<>(this.keys, wrapped);
+        }
+        return view;
+    }
+
+    @Override
+    public int size() {
+        return this.keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public String get(Object key) {
+        int idx = this.indexOf(key);
+        return idx < 0 ? null : this.values[idx];
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> set = this.entrySet;
+        if (set == null) this.entrySet = set = new EntrySet<>(this.keys, this.values);
+        return set;
+    }
+
+    private int indexOf(Object key) {
+        return key instanceof String ? Arrays.binarySearch(this.keys, key) : -1;
+    }
+
+    private static final class View<V> extends AbstractMap<String, V> {
+
+        private final String[] keys;
+        private final V[] values;
+        private final Set<Map.Entry<String, V>> entrySet;
+
+        private View(String[] keys, V[] values) {
+            this.keys = keys;
+            this.values = values;
+            this.entrySet = new EntrySet<>(keys, values);
+        }
+
+        @Override
+        public int size() {
+            return this.keys.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && Arrays.binarySearch(this.keys, key) >= 0;
+        }
+
+        @Override
+        @Nullable
+        public V get(Object key) {
+            int idx = key instanceof String ? Arrays.binarySearch(this.keys, key) : -1;
+            return idx < 0 ? null : this.values[idx];
+        }
+
+        @Override
+        public Set<Map.Entry<String, V>> entrySet() {
+            return this.entrySet;
+        }
+    }
+
+    private static final class EntrySet<V> extends AbstractSet<Map.Entry<String, V>> {
+
+        private final Map.Entry<String, V>[] entries;
+
+        @SuppressWarnings("unchecked")
+        private EntrySet(String[] keys, V[] values) {
+            this.entries = (Map.Entry<String, V>[]) new Map.Entry<?, ?>[keys.length];
+            for (int i = 0; i < keys.length; i++) this.entries[i] = new AbstractMap.SimpleImmutableEntry<>(keys[i], values[i]);
+        }
+
+        @Override
+        public int size() {
+            return this.entries.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, V>> iterator() {
+            return new Iterator<>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < EntrySet.this.entries.length;
+                }
+
+                @Override
+                public Map.Entry<String, V> next() {
+                    if (this.index >= EntrySet.this.entries.length) throw new NoSuchElementException();
+                    return EntrySet.this.entries[this.index++];
+                }
+            };
+        }
+    }
+}
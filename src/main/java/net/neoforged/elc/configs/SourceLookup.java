@@ -0,0 +1,239 @@
+package net.neoforged.elc.configs;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.neoforged.elc.attributes.MementoWriter;
+import net.neoforged.elc.util.StringPool;
+
+/**
+ * Represents the configuration of the Java source lookup director, which determines where the Eclipse debugger searches for source code.
+ * <p>
+ * The director is stored as a single memento in {@link JavaApplicationLaunchConfig.Keys#ATTR_SOURCE_LOCATOR_MEMENTO}, which in turn holds a nested memento for each container.
+ * Both levels are produced while the launch config is written, through two reused {@link MementoWriter} buffers.
+ *
+ * @param containers The source containers, in search order. Never contains duplicates, as only the first occurrence of each container is kept.
+ * @param duplicates If the debugger will search all containers for duplicate source files, instead of stopping at the first match.
+ */
+public record SourceLookup(List<Container> containers, boolean duplicates) implements MementoWriter.Memento {
+
+    /**
+     * The ID of the Java source lookup director.
+     */
+    public static final String JAVA_SOURCE_LOOKUP_DIRECTOR = "org.eclipse.jdt.launching.sourceLocator.JavaSourceLookupDirector";
+
+    public SourceLookup {
+        // Keeps the first occurrence of each container, like the builder.
+        containers = List.copyOf(new LinkedHashSet<>(containers));
+    }
+
+    /**
+     * Creates a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void writeMemento(MementoWriter writer) {
+        MementoWriter nested = new MementoWriter();
+        writer.startElement("sourceLookupDirector");
+        writer.startElement("sourceContainers").attribute("duplicates", String.valueOf(this.duplicates));
+        for (Container container : this.containers) {
+            container.writeMemento(nested.start());
+            writer.startElement("container").attribute("memento", nested.finish()).attribute("typeId", container.type.id).endElement();
+        }
+        writer.endElement();
+        writer.endElement();
+    }
+
+    /**
+     * Serializes this source lookup as the value of {@link JavaApplicationLaunchConfig.Keys#ATTR_SOURCE_LOCATOR_MEMENTO}.
+     *
+     * @return The serialized memento.
+     */
+    public String toMemento() {
+        MementoWriter writer = new MementoWriter().start();
+        writeMemento(writer);
+        return writer.finish();
+    }
+
+    /**
+     * Represents a single location that will be searched for source files.
+     *
+     * @param type The kind of container.
+     * @param path The path or name of the container, whose meaning depends on the {@linkplain Type type}.
+     * @param flag The <code>detectRoot</code>, <code>nest</code> or <code>referencedProjects</code> flag, depending on the {@linkplain Type type}.
+     */
+    public static record Container(Type type, String path, boolean flag) implements MementoWriter.Memento {
+
+        /**
+         * The default source lookup path of the launch config.
+         */
+        public static final Container DEFAULT = new Container(Type.DEFAULT, "", false);
+
+        /**
+         * Searches the source folders of a Java project.
+         *
+         * @param name The name of the Java project.
+         */
+        public static Container javaProject(String name) {
+            return new Container(Type.JAVA_PROJECT, StringPool.pooled(name), false);
+        }
+
+        /**
+         * Searches all files in an Eclipse project.
+         *
+         * @param name               The name of the Eclipse project.
+         * @param referencedProjects If projects referenced by the project will also be searched.
+         */
+        public static Container project(String name, boolean referencedProjects) {
+            return new Container(Type.PROJECT, StringPool.pooled(name), referencedProjects);
+        }
+
+        /**
+         * Searches a source archive outside of the Eclipse workspace.
+         * <p>
+         * Can use {@linkplain net.neoforged.elc.EclipseVariables eclipse variables} for path resolution.
+         *
+         * @param path The absolute file system path of the archive.
+         */
+        public static Container externalArchive(String path) {
+            return new Container(Type.EXTERNAL_ARCHIVE, StringPool.pooled(path), true);
+        }
+
+        /**
+         * Searches a source archive within the Eclipse workspace.
+         *
+         * @param path The workspace-relative path of the archive, such as <code>/Project/libs/lib-sources.jar</code>.
+         */
+        public static Container archive(String path) {
+            return new Container(Type.ARCHIVE, StringPool.pooled(path), true);
+        }
+
+        /**
+         * Searches a directory outside of the Eclipse workspace.
+         *
+         * @param path The absolute file system path of the directory.
+         * @param nest If subfolders will also be searched.
+         */
+        public static Container directory(String path, boolean nest) {
+            return new Container(Type.DIRECTORY, StringPool.pooled(path), nest);
+        }
+
+        /**
+         * Searches a folder within the Eclipse workspace.
+         *
+         * @param path The workspace-relative path of the folder.
+         * @param nest If subfolders will also be searched.
+         */
+        public static Container folder(String path, boolean nest) {
+            return new Container(Type.FOLDER, StringPool.pooled(path), nest);
+        }
+
+        /**
+         * Searches the source attachments of a classpath container, such as the JRE container.
+         *
+         * @param path The container path.
+         */
+        public static Container classpathContainer(String path) {
+            return new Container(Type.CLASSPATH_CONTAINER, StringPool.pooled(path), false);
+        }
+
+        @Override
+        public void writeMemento(MementoWriter writer) {
+            switch (this.type) {
+                case DEFAULT -> writer.startElement("default");
+                case JAVA_PROJECT -> writer.startElement("javaProject").attribute("name", this.path);
+                case PROJECT -> writer.startElement("project").attribute("name", this.path).attribute("referencedProjects", String.valueOf(this.flag));
+                case EXTERNAL_ARCHIVE, ARCHIVE -> writer.startElement("archive").attribute("detectRoot", String.valueOf(this.flag)).attribute("path", this.path);
+                case DIRECTORY -> writer.startElement("directory").attribute("nest", String.valueOf(this.flag)).attribute("path", this.path);
+                case FOLDER -> writer.startElement("folder").attribute("nest", String.valueOf(this.flag)).attribute("path", this.path);
+                case CLASSPATH_CONTAINER -> writer.startElement("classpathContainer").attribute("path", this.path);
+            }
+            writer.endElement();
+        }
+    }
+
+    /**
+     * The kinds of source containers.
+     */
+    public static enum Type {
+        DEFAULT("org.eclipse.debug.core.containerType.default"),
+        JAVA_PROJECT("org.eclipse.jdt.launching.sourceContainer.javaProject"),
+        PROJECT("org.eclipse.debug.core.containerType.project"),
+        EXTERNAL_ARCHIVE("org.eclipse.debug.core.containerType.externalArchive"),
+        ARCHIVE("org.eclipse.debug.core.containerType.archive"),
+        DIRECTORY("org.eclipse.debug.core.containerType.directory"),
+        FOLDER("org.eclipse.debug.core.containerType.folder"),
+        CLASSPATH_CONTAINER("org.eclipse.jdt.launching.sourceContainer.classpathContainer");
+
+        private final String id;
+
+        Type(String id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the Eclipse type ID of this container type.
+         */
+        public String id() {
+            return this.id;
+        }
+    }
+
+    /**
+     * Builder for {@link SourceLookup}.
+     */
+    public static class Builder {
+
+        private final Set<Container> containers = new LinkedHashSet<>();
+
+        private boolean duplicates = false;
+
+        /**
+         * Adds one or more source containers to the end of the search order. Containers that were already added are ignored.
+         *
+         * @param containers The containers to add.
+         * @return this
+         */
+        public Builder container(Container... containers) {
+            for (Container container : containers) this.containers.add(container);
+            return this;
+        }
+
+        /**
+         * Adds source containers to the end of the search order. Containers that were already added are ignored.
+         *
+         * @param containers The containers to add.
+         * @return this
+         */
+        public Builder containers(Iterable<Container> containers) {
+            for (Container container : containers) this.containers.add(container);
+            return this;
+        }
+
+        /**
+         * Sets the search for duplicates flag. If enabled, the debugger will search all containers for duplicate source files.
+         *
+         * @param duplicates If duplicates will be searched for.
+         * @return this
+         */
+        public Builder duplicates(boolean duplicates) {
+            this.duplicates = duplicates;
+            return this;
+        }
+
+        /**
+         * Builds a {@link SourceLookup}.
+         * <p>
+         * All containers (lists, maps) are copied, so further modification to this builder will not modify the built object.
+         *
+         * @return A newly-constructed {@link SourceLookup}.
+         */
+        public SourceLookup build() {
+            return new SourceLookup(List.copyOf(this.containers), this.duplicates);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package net.neoforged.elc.configs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link LaunchConfigWriter.Listener} that aggregates the metrics of a generation run into totals, percentiles and the slowest launch configs.
+ *
+ * <pre>
+ * WriteStatistics stats = new WriteStatistics();
+ * new LaunchConfigWriter(directories).listener(stats).writeAll(project, configs);
+ * logger.info(stats.summary(5));
+ * </pre>
+ *
+ * Instances of this class are not thread-safe.
+ */
+public final class WriteStatistics implements LaunchConfigWriter.Listener {
+
+    private final List<LaunchConfigWriter.Metrics> metrics = new ArrayList<>();
+    private long totalNanos;
+    private long totalBytes;
+    private int skipped;
+    @Nullable
+    private long[] sorted;
+
+    @Override
+    public void accept(LaunchConfigWriter.Metrics metrics) {
+        this.metrics.add(metrics);
+        this.totalNanos += metrics.totalNanos();
+        this.totalBytes += metrics.bytes();
+        if (metrics.skipped()) this.skipped++;
+        this.sorted = null;
+    }
+
+    /**
+     * Returns the number of launch configs handled, including skipped ones.
+     */
+    public int count() {
+        return this.metrics.size();
+    }
+
+    /**
+     * Returns the number of launch configs whose files were skipped because they did not change.
+     */
+    public int skipped() {
+        return this.skipped;
+    }
+
+    /**
+     * Returns the total time spent on all launch configs.
+     */
+    public long totalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * Returns the total size of all serialized launch configs.
+     */
+    public long totalBytes() {
+        return this.totalBytes;
+    }
+
+    /**
+     * Returns a percentile of the {@linkplain LaunchConfigWriter.Metrics#totalNanos() time spent} per launch config, using the nearest-rank method.
+     *
+     * @param percentile The percentile, between 0 (exclusive) and 100 (inclusive).
+     * @return The time of the percentile in nanoseconds, or zero if no launch configs were handled.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long percentileNanos(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) throw new IllegalArgumentException("Percentile out of range: " + percentile);
+        if (this.metrics.isEmpty()) return 0;
+        if (this.sorted == null) {
+            this.sorted = new long[this.metrics.size()];
+            for (int i = 0; i < this.sorted.length; i++) this.sorted[i] = this.metrics.get(i).totalNanos();
+            Arrays.sort(this.sorted);
+        }
+        int rank = (int) Math.ceil(percentile / 100 * this.sorted.length);
+        return this.sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Returns the slowest launch configs, slowest first.
+     *
+     * @param limit The maximum number of launch configs to return.
+     * @return The metrics of the slowest launch configs.
+     */
+    public List<LaunchConfigWriter.Metrics> slowest(int limit) {
+        return this.metrics.stream().sorted(Comparator.comparingLong(LaunchConfigWriter.Metrics::totalNanos).reversed()).limit(limit).toList();
+    }
+
+    /**
+     * Returns a human-readable summary of the totals, the 50th, 90th and 99th percentiles, and the slowest launch configs.
+     *
+     * @param slowest The number of slowest launch configs to list.
+     */
+    public String summary(int slowest) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "%d launch configs (%d skipped), %d bytes in %.2f ms; p50 %.3f ms, p90 %.3f ms, p99 %.3f ms",
+            this.count(), this.skipped, this.totalBytes, millis(this.totalNanos), millis(this.percentileNanos(50)), millis(this.percentileNanos(90)), millis(this.percentileNanos(99))));
+        for (LaunchConfigWriter.Metrics metrics : this.slowest(slowest)) {
+            builder.append(String.format(Locale.ROOT, "%n  %s/%s: %.3f ms (bake %.3f ms, serialize %.3f ms, write %.3f ms), %d attributes, %d bytes",
+                metrics.project(), metrics.name(), millis(metrics.totalNanos()), millis(metrics.bakeNanos()), millis(metrics.serializeNanos()), millis(metrics.writeNanos()),
+                metrics.attributeCount(), metrics.bytes()));
+        }
+        return builder.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000D;
+    }
+}
@@ -0,0 +1,263 @@
+package net.neoforged.elc.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfig;
+import net.neoforged.elc.configs.LaunchGroup;
+import net.neoforged.elc.util.Util;
+
+/**
+ * Exports launch configs into IntelliJ run configuration files (<code>.run/&lt;name&gt;.run.xml</code>), which IntelliJ picks up as shared run configurations.
+ * <ul>
+ * <li>{@link JavaApplicationLaunchConfig}s become <code>Application</code> configurations. IntelliJ has no setting for the Java module of the main class,
+ * and launches it on the module path when the IntelliJ module declares a <code>module-info.java</code>. The module of a modular config is passed with
+ * <code>--add-modules</code>, so that launching fails instead of silently falling back to the class path when the IntelliJ module is not modular.</li>
+ * <li>{@link GradleLaunchConfig}s become <code>GradleRunConfiguration</code>s.</li>
+ * <li>{@link LaunchGroup}s become <code>CompoundRunConfigurationType</code>s, which start their enabled entries in parallel.
+ * Launch modes and post-launch actions are not supported.</li>
+ * </ul>
+ */
+public final class IntelliJExporter implements LaunchExporter {
+
+    private static final String APPLICATION = "Application";
+    private static final String GRADLE = "GradleRunConfiguration";
+    private static final String COMPOUND = "CompoundRunConfigurationType";
+
+    private final Path directory;
+    private final VariableTranslator variables;
+    private final XMLOutputFactory outputFactory = Util.xmlOutputFactory();
+    private final Map<String, String> types = new HashMap<>();
+    private final Map<String, String> files = new HashMap<>();
+    private final Map<String, LaunchGroup> groups = new LinkedHashMap<>();
+    private Function<String, String> modules = Function.identity();
+    private boolean finished;
+
+    /**
+     * Creates a new exporter.
+     *
+     * @param directory The directory receiving the run configuration files, typically <code>.run</code> in the root of the IntelliJ project.
+     * @param variables The translator used for Eclipse variables, typically {@link VariableTranslator#intelliJ()}.
+     */
+    public IntelliJExporter(Path directory, VariableTranslator variables) {
+        this.directory = directory;
+        this.variables = variables;
+    }
+
+    /**
+     * Sets the function mapping Eclipse projects to IntelliJ modules. Defaults to using the project name as is.
+     * <p>
+     * Modules of Gradle builds imported into IntelliJ are named after the source set, such as <code>root.project.main</code>.
+     *
+     * @param modules The module name function.
+     * @return this
+     */
+    public IntelliJExporter modules(Function<String, String> modules) {
+        this.modules = modules;
+        return this;
+    }
+
+    @Override
+    public void export(String name, LaunchConfig config) throws IOException {
+        if (this.finished) throw new IllegalStateException("The export was already finished");
+        String type;
+        if (config instanceof JavaApplicationLaunchConfig) type = APPLICATION;
+        else if (config instanceof GradleLaunchConfig) type = GRADLE;
+        else if (config instanceof LaunchGroup) type = COMPOUND;
+        else throw new IllegalArgumentException("Unsupported launch config type " + config.getType() + " for " + name);
+        if (this.types.containsKey(name)) throw new IllegalArgumentException("Duplicate launch config name: " + name);
+
+        // Compared ignoring case, as most Windows and macOS file systems are case-insensitive.
+        String file = fileName(name);
+        String existing = this.files.putIfAbsent(file.toLowerCase(Locale.ROOT), name);
+        if (existing != null) throw new IllegalArgumentException("Launch configs " + existing + " and " + name + " would both be written to " + file);
+        this.types.put(name, type);
+
+        if (config instanceof LaunchGroup group) {
+            this.groups.put(name, group);
+        } else {
+            this.write(name, type, config);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (this.finished) return;
+        this.finished = true;
+        for (Map.Entry<String, LaunchGroup> group : this.groups.entrySet()) {
+            for (LaunchGroup.Entry entry : group.getValue().entries()) {
+                if (!this.types.containsKey(entry.name())) {
+                    throw new IllegalArgumentException("Launch group " + group.getKey() + " refers to unknown launch config " + entry.name());
+                }
+            }
+            this.write(group.getKey(), COMPOUND, group.getValue());
+        }
+    }
+
+    /**
+     * Returns the file name IntelliJ uses for a run configuration, which replaces characters that are not valid in file names.
+     * Distinct names may share a file name, such as <code>a/b</code> and <code>a:b</code>, which the exporter rejects.
+     *
+     * @param name The name of the run configuration.
+     */
+    public static String fileName(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            sb.append(Character.isLetterOrDigit(c) || c == ' ' || c == '-' || c == '.' || c == '(' || c == ')' ? c : '_');
+        }
+        return sb.append(".run.xml").toString();
+    }
+
+    private void write(String name, String type, LaunchConfig config) throws IOException {
+        Files.createDirectories(this.directory);
+        try (Writer out = Files.newBufferedWriter(this.directory.resolve(fileName(name)), StandardCharsets.UTF_8)) {
+            XMLStreamWriter xml = this.outputFactory.createXMLStreamWriter(out);
+            xml.writeStartElement("component");
+            xml.writeAttribute("name", "ProjectRunConfigurationManager");
+            newline(xml, 1);
+            xml.writeStartElement("configuration");
+            xml.writeAttribute("default", "false");
+            xml.writeAttribute("name", name);
+            xml.writeAttribute("type", type);
+            if (!type.equals(COMPOUND)) xml.writeAttribute("factoryName", type.equals(GRADLE) ? "Gradle" : APPLICATION);
+
+            if (config instanceof JavaApplicationLaunchConfig java) this.writeJava(xml, java);
+            else if (config instanceof GradleLaunchConfig gradle) this.writeGradle(xml, gradle);
+            else this.writeCompound(xml, (LaunchGroup) config);
+
+            newline(xml, 2);
+            xml.writeEmptyElement("method");
+            xml.writeAttribute("v", "2");
+            newline(xml, 1);
+            xml.writeEndElement();
+            newline(xml, 0);
+            xml.writeEndElement();
+            xml.writeCharacters("\n");
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to export run configuration " + name, e);
+        }
+    }
+
+    private void writeJava(XMLStreamWriter xml, JavaApplicationLaunchConfig config) throws XMLStreamException {
+        option(xml, 2, "MAIN_CLASS_NAME", config.mainClass());
+        newline(xml, 2);
+        xml.writeEmptyElement("module");
+        xml.writeAttribute("name", this.modules.apply(config.project()));
+        if (!config.arguments().isEmpty()) option(xml, 2, "PROGRAM_PARAMETERS", this.join(config.arguments()));
+        List<String> vmArguments = config.vmArguments();
+        if (config.moduleName() != null) {
+            vmArguments = new ArrayList<>(vmArguments);
+            vmArguments.add(0, "--add-modules");
+            vmArguments.add(1, config.moduleName());
+        }
+        if (!vmArguments.isEmpty()) option(xml, 2, "VM_PARAMETERS", this.join(vmArguments));
+        if (config.workingDirectory() != null) option(xml, 2, "WORKING_DIRECTORY", this.variables.translate(config.workingDirectory()));
+        if (!config.envVars().isEmpty()) {
+            newline(xml, 2);
+            xml.writeStartElement("envs");
+            for (Map.Entry<String, String> env : config.envVars().entrySet()) {
+                newline(xml, 3);
+                xml.writeEmptyElement("env");
+                xml.writeAttribute("name", env.getKey());
+                xml.writeAttribute("value", this.variables.translate(env.getValue()));
+            }
+            newline(xml, 2);
+            xml.writeEndElement();
+        }
+    }
+
+    private void writeGradle(XMLStreamWriter xml, GradleLaunchConfig config) throws XMLStreamException {
+        newline(xml, 2);
+        xml.writeStartElement("ExternalSystemSettings");
+        option(xml, 3, "externalProjectPath", config.workingDirectory().isEmpty() ? "$PROJECT_DIR$" : this.variables.translate(config.workingDirectory()));
+        option(xml, 3, "externalSystemIdString", "GRADLE");
+
+        String params = this.join(config.arguments());
+        if (config.offlineMode()) params = params.isEmpty() ? "--offline" : "--offline " + params;
+        option(xml, 3, "scriptParameters", params);
+
+        newline(xml, 3);
+        xml.writeStartElement("option");
+        xml.writeAttribute("name", "taskNames");
+        newline(xml, 4);
+        xml.writeStartElement("list");
+        for (String task : config.tasks()) {
+            newline(xml, 5);
+            xml.writeEmptyElement("option");
+            xml.writeAttribute("value", task);
+        }
+        newline(xml, 4);
+        xml.writeEndElement();
+        newline(xml, 3);
+        xml.writeEndElement();
+
+        option(xml, 3, "vmOptions", this.join(config.jvmArguments()));
+        newline(xml, 2);
+        xml.writeEndElement();
+    }
+
+    private void writeCompound(XMLStreamWriter xml, LaunchGroup group) throws XMLStreamException {
+        for (LaunchGroup.Entry entry : group.entries()) {
+            if (!entry.enabled()) continue;
+            newline(xml, 2);
+            xml.writeEmptyElement("toRun");
+            xml.writeAttribute("name", entry.name());
+            xml.writeAttribute("type", this.types.get(entry.name()));
+        }
+    }
+
+    /**
+     * Joins arguments into a command line as parsed by IntelliJ, which splits on whitespace outside of double quotes, and unescapes <code>\"</code>.
+     */
+    private String join(List<String> args) {
+        StringBuilder sb = new StringBuilder();
+        for (String arg : args) {
+            if (sb.length() > 0) sb.append(' ');
+            String translated = this.variables.translate(arg);
+            boolean quote = translated.isEmpty() || translated.indexOf('"') >= 0 || translated.chars().anyMatch(Character::isWhitespace);
+            if (!quote) {
+                sb.append(translated);
+                continue;
+            }
+            sb.append('"');
+            for (int i = 0; i < translated.length(); i++) {
+                char c = translated.charAt(i);
+                if (c == '"') sb.append('\\');
+                sb.append(c);
+            }
+            sb.append('"');
+        }
+        return sb.toString();
+    }
+
+    private static void option(XMLStreamWriter xml, int depth, String name, String value) throws XMLStreamException {
+        newline(xml, depth);
+        xml.writeEmptyElement("option");
+        xml.writeAttribute("name", name);
+        xml.writeAttribute("value", value);
+    }
+
+    private static void newline(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        xml.writeCharacters("\n");
+        for (int i = 0; i < depth; i++) xml.writeCharacters("  ");
+    }
+}
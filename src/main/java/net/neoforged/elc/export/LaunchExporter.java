@@ -0,0 +1,46 @@
+package net.neoforged.elc.export;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfig;
+import net.neoforged.elc.configs.LaunchGroup;
+
+/**
+ * Exports launch configs into the run configuration format of another IDE.
+ * <p>
+ * Exporters support {@link JavaApplicationLaunchConfig}, {@link GradleLaunchConfig} and {@link LaunchGroup}. Launch configs are exported as they are passed,
+ * in a single pass, while launch groups are buffered until {@link #finish()}, as they may refer to launch configs that are exported later.
+ */
+public interface LaunchExporter {
+
+    /**
+     * Exports a launch config.
+     *
+     * @param name   The name of the launch config.
+     * @param config The launch config.
+     * @throws IllegalArgumentException if the type of the launch config is not supported, or if the name was already exported.
+     */
+    void export(String name, LaunchConfig config) throws IOException;
+
+    /**
+     * Exports all launch configs, in order of their names.
+     *
+     * @param configs The launch configs, keyed by name.
+     */
+    default void exportAll(Map<String, ? extends LaunchConfig> configs) throws IOException {
+        for (Map.Entry<String, ? extends LaunchConfig> entry : new TreeMap<>(configs).entrySet()) {
+            export(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Exports the buffered launch groups and completes the export. No further launch configs may be exported.
+     *
+     * @throws IllegalArgumentException if a launch group refers to a launch config that was not exported.
+     */
+    void finish() throws IOException;
+}
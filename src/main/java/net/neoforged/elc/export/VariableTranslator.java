@@ -0,0 +1,146 @@
+package net.neoforged.elc.export;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.EclipseVariables;
+
+/**
+ * Translates {@linkplain EclipseVariables Eclipse Variables} into the equivalent variables of other IDEs.
+ * <p>
+ * Workspace and project locations are translated relative to the root of the other IDE's project (<code>${workspaceFolder}</code> in VS Code,
+ * <code>$PROJECT_DIR$</code> in IntelliJ). Eclipse projects are assumed to live at that root unless {@linkplain #project(String, String) registered}
+ * otherwise, which matches single-project builds. Variables without an equivalent, such as prompts or selections, are kept as is.
+ */
+public final class VariableTranslator {
+
+    private final Dialect dialect;
+    private final Map<String, String> projects = new HashMap<>();
+
+    private VariableTranslator(Dialect dialect) {
+        this.dialect = dialect;
+    }
+
+    /**
+     * Creates a translator to VS Code variables.
+     */
+    public static VariableTranslator vsCode() {
+        return new VariableTranslator(Dialect.VS_CODE);
+    }
+
+    /**
+     * Creates a translator to IntelliJ path macros.
+     */
+    public static VariableTranslator intelliJ() {
+        return new VariableTranslator(Dialect.INTELLIJ);
+    }
+
+    /**
+     * Registers the location of an Eclipse project relative to the root of the other IDE's project, such as <code>"subproject"</code> for a subproject of a Gradle build.
+     *
+     * @param name         The name of the Eclipse project.
+     * @param relativePath The relative path of the project, using <code>/</code> as the separator, or an empty string for the root.
+     * @return this
+     */
+    public VariableTranslator project(String name, String relativePath) {
+        this.projects.put(name, relativePath);
+        return this;
+    }
+
+    /**
+     * Translates all variables in a string. Nested variables are only translated if the enclosing variable is translated.
+     *
+     * @param value The string to translate.
+     * @return The translated string.
+     */
+    public String translate(String value) {
+        int start = value.indexOf("${");
+        if (start < 0) return value;
+
+        StringBuilder out = new StringBuilder(value.length());
+        int cursor = 0;
+        while (start >= 0) {
+            int end = findEnd(value, start + 2);
+            if (end < 0) break; // Unterminated, keep the remainder as is.
+
+            out.append(value, cursor, start);
+            String body = value.substring(start + 2, end);
+            String translated = null;
+            if (body.indexOf("${") < 0) {
+                int colon = body.indexOf(':');
+                translated = colon < 0 ? this.variable(body, null) : this.variable(body.substring(0, colon), body.substring(colon + 1));
+            }
+            out.append(translated != null ? translated : value.substring(start, end + 1));
+
+            cursor = end + 1;
+            start = value.indexOf("${", cursor);
+        }
+        out.append(value, cursor, value.length());
+        return out.toString();
+    }
+
+    private static int findEnd(String value, int from) {
+        int depth = 0;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '$' && i + 1 < value.length() && value.charAt(i + 1) == '{') {
+                depth++;
+                i++;
+            } else if (c == '}') {
+                if (depth-- == 0) return i;
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    private String variable(String name, @Nullable String arg) {
+        switch (name) {
+            case "workspace_loc":
+                return arg == null ? this.dialect.root : this.location(arg);
+            case "project_loc":
+                return arg == null ? this.dialect.root : this.location(arg);
+            case "project_name":
+                return arg == null ? this.dialect.rootName : null;
+            case "env_var":
+                return arg == null || this.dialect.envFormat == null ? null : String.format(this.dialect.envFormat, arg);
+            case "system_property":
+                return "user.home".equals(arg) ? this.dialect.userHome : null;
+            default:
+                return null;
+        }
+    }
+
+    private String location(String resource) {
+        String path = resource.startsWith("/") ? resource.substring(1) : resource;
+        int slash = path.indexOf('/');
+        String project = slash < 0 ? path : path.substring(0, slash);
+
+        StringBuilder sb = new StringBuilder(this.dialect.root);
+        String relative = this.projects.getOrDefault(project, "");
+        if (!relative.isEmpty()) sb.append('/').append(relative);
+        if (slash >= 0) sb.append(path, slash, path.length());
+        return sb.toString();
+    }
+
+    private static enum Dialect {
+        VS_CODE("${workspaceFolder}", "${workspaceFolderBasename}", "${env:%s}", "${userHome}"),
+        INTELLIJ("$PROJECT_DIR$", null, null, "$USER_HOME$");
+
+        private final String root;
+        @Nullable
+        private final String rootName;
+        @Nullable
+        private final String envFormat;
+        private final String userHome;
+
+        private Dialect(String root, @Nullable String rootName, @Nullable String envFormat, String userHome) {
+            this.root = root;
+            this.rootName = rootName;
+            this.envFormat = envFormat;
+            this.userHome = userHome;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package net.neoforged.elc.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfig;
+import net.neoforged.elc.configs.LaunchGroup;
+import net.neoforged.elc.util.JsonWriter;
+
+/**
+ * Exports launch configs into a VS Code <code>.vscode/launch.json</code> file.
+ * <ul>
+ * <li>{@link JavaApplicationLaunchConfig}s become <code>java</code> configurations of the Java debugger extension.</li>
+ * <li>{@link GradleLaunchConfig}s become <code>node-terminal</code> configurations, which run Gradle in the integrated terminal.
+ * Configs using the Gradle wrapper run <code>./gradlew</code>, with a <code>windows</code> override running <code>.\gradlew.bat</code>.
+ * Arguments are quoted for a POSIX shell, and for PowerShell in a <code>windows</code> override wherever that quoting differs.</li>
+ * <li>{@link LaunchGroup}s become compounds, which start their enabled entries in parallel. Compounds cannot contain other compounds,
+ * so nested groups are flattened, and launch modes and post-launch actions are not supported.</li>
+ * </ul>
+ */
+public final class VsCodeExporter implements LaunchExporter {
+
+    private final JsonWriter json;
+    private final VariableTranslator variables;
+    private final Set<String> names = new HashSet<>();
+    private final Map<String, LaunchGroup> groups = new LinkedHashMap<>();
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * Creates a new exporter.
+     *
+     * @param out       The writer receiving the <code>launch.json</code> content.
+     * @param variables The translator used for Eclipse variables, typically {@link VariableTranslator#vsCode()}.
+     */
+    public VsCodeExporter(Writer out, VariableTranslator variables) {
+        this.json = new JsonWriter(out);
+        this.variables = variables;
+    }
+
+    @Override
+    public void export(String name, LaunchConfig config) throws IOException {
+        if (this.finished) throw new IllegalStateException("The export was already finished");
+        if (!this.names.add(name)) throw new IllegalArgumentException("Duplicate launch config name: " + name);
+
+        if (config instanceof LaunchGroup group) {
+            this.groups.put(name, group);
+            return;
+        }
+
+        this.start();
+        if (config instanceof JavaApplicationLaunchConfig java) {
+            this.writeJava(name, java);
+        } else if (config instanceof GradleLaunchConfig gradle) {
+            this.writeGradle(name, gradle);
+        } else {
+            throw new IllegalArgumentException("Unsupported launch config type " + config.getType() + " for " + name);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (this.finished) return;
+        this.finished = true;
+        this.start();
+        this.json.endArray();
+
+        if (!this.groups.isEmpty()) {
+            this.json.name("compounds").beginArray();
+            for (Map.Entry<String, LaunchGroup> group : this.groups.entrySet()) {
+                this.json.beginObject().property("name", group.getKey());
+                this.json.name("configurations").beginArray();
+                for (String entry : this.flatten(group.getKey(), group.getValue(), new ArrayList<>())) this.json.value(entry);
+                this.json.endArray().endObject();
+            }
+            this.json.endArray();
+        }
+
+        this.json.endObject();
+        this.json.flush();
+    }
+
+    private void start() throws IOException {
+        if (this.started) return;
+        this.started = true;
+        this.json.beginObject().property("version", "0.2.0");
+        this.json.name("configurations").beginArray();
+    }
+
+    private void writeJava(String name, JavaApplicationLaunchConfig config) throws IOException {
+        this.json.beginObject();
+        this.json.property("type", "java");
+        this.json.property("name", name);
+        this.json.property("request", "launch");
+        this.json.property("mainClass", config.moduleName() != null ? config.moduleName() + "/" + config.mainClass() : config.mainClass());
+        this.json.property("projectName", config.project());
+        this.stringArray("args", config.arguments());
+        this.stringArray("vmArgs", config.vmArguments());
+        if (!config.envVars().isEmpty()) {
+            this.json.name("env").beginObject();
+            for (Map.Entry<String, String> env : config.envVars().entrySet()) {
+                this.json.property(env.getKey(), this.variables.translate(env.getValue()));
+            }
+            this.json.endObject();
+        }
+        if (config.workingDirectory() != null) this.json.property("cwd", this.variables.translate(config.workingDirectory()));
+        if (config.stopInMain()) this.json.name("stopOnEntry").value(true);
+        this.json.endObject();
+    }
+
+    private void writeGradle(String name, GradleLaunchConfig config) throws IOException {
+        boolean wrapper = config.gradleDistribution().equals("GRADLE_DISTRIBUTION(WRAPPER)");
+        List<String> args = new ArrayList<>(config.tasks());
+        if (config.offlineMode()) args.add("--offline");
+        for (String arg : config.arguments()) args.add(this.variables.translate(arg));
+        if (!config.jvmArguments().isEmpty()) {
+            StringBuilder jvmArgs = new StringBuilder("-Dorg.gradle.jvmargs=");
+            for (int i = 0; i < config.jvmArguments().size(); i++) {
+                if (i > 0) jvmArgs.append(' ');
+                appendGradleQuoted(jvmArgs, this.variables.translate(config.jvmArguments().get(i)));
+            }
+            args.add(jvmArgs.toString());
+        }
+
+        StringBuilder posix = new StringBuilder(wrapper ? "./gradlew" : "gradle");
+        StringBuilder windows = new StringBuilder(wrapper ? ".\\gradlew.bat" : "gradle");
+        for (String arg : args) {
+            appendPosixQuoted(posix.append(' '), arg);
+            appendPowerShellQuoted(windows.append(' '), arg);
+        }
+
+        this.json.beginObject();
+        this.json.property("type", "node-terminal");
+        this.json.property("name", name);
+        this.json.property("request", "launch");
+        this.json.property("command", posix.toString());
+        if (!config.workingDirectory().isEmpty()) this.json.property("cwd", this.variables.translate(config.workingDirectory()));
+        if (!windows.toString().equals(posix.toString())) this.json.name("windows").beginObject().property("command", windows.toString()).endObject();
+        this.json.endObject();
+    }
+
+    /**
+     * Quotes an argument for a POSIX shell. Unsafe arguments are wrapped in single quotes, which preserve everything but single quotes,
+     * so those end the quoted string, are escaped, and start a new one.
+     * <p>
+     * VS Code substitutes its variables before the command reaches the shell, so quoting <code>$</code> also keeps substituted paths with spaces in one argument.
+     */
+    private static void appendPosixQuoted(StringBuilder sb, String arg) {
+        if (isSafe(arg, "@%+=:,./-_")) {
+            sb.append(arg);
+            return;
+        }
+        sb.append('\'');
+        for (int i = 0; i < arg.length(); i++) {
+            char c = arg.charAt(i);
+            if (c == '\'') sb.append("'\\''");
+            else sb.append(c);
+        }
+        sb.append('\'');
+    }
+
+    /**
+     * Quotes an argument for PowerShell, the default shell of the integrated terminal on Windows. Unsafe arguments are wrapped in single quotes,
+     * in which single quotes are doubled. Dots are unsafe, as PowerShell splits unquoted arguments like <code>-Dkey.name=value</code> at the first dot.
+     */
+    private static void appendPowerShellQuoted(StringBuilder sb, String arg) {
+        if (isSafe(arg, "+=:/\\-_")) {
+            sb.append(arg);
+            return;
+        }
+        sb.append('\'');
+        for (int i = 0; i < arg.length(); i++) {
+            char c = arg.charAt(i);
+            if (c == '\'') sb.append('\'');
+            sb.append(c);
+        }
+        sb.append('\'');
+    }
+
+    /**
+     * Quotes a JVM argument for <code>org.gradle.jvmargs</code>, which Gradle splits on whitespace outside of single or double quotes, and which has no escapes.
+     *
+     * @throws IllegalArgumentException if the argument contains both kinds of quotes, as it cannot be quoted.
+     */
+    private static void appendGradleQuoted(StringBuilder sb, String arg) {
+        boolean doubleQuote = arg.indexOf('"') >= 0;
+        boolean singleQuote = arg.indexOf('\'') >= 0;
+        if (!arg.isEmpty() && !doubleQuote && !singleQuote && arg.chars().noneMatch(Character::isWhitespace)) {
+            sb.append(arg);
+            return;
+        }
+        if (doubleQuote && singleQuote) throw new IllegalArgumentException("JVM argument cannot be passed through org.gradle.jvmargs: " + arg);
+        char quote = doubleQuote ? '\'' : '"';
+        sb.append(quote).append(arg).append(quote);
+    }
+
+    private static boolean isSafe(String arg, String punctuation) {
+        if (arg.isEmpty()) return false;
+        for (int i = 0; i < arg.length(); i++) {
+            char c = arg.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && (c < '0' || c > '9') && punctuation.indexOf(c) < 0) return false;
+        }
+        return true;
+    }
+
+    private void stringArray(String name, List<String> values) throws IOException {
+        if (values.isEmpty()) return;
+        this.json.name(name).beginArray();
+        for (String value : values) this.json.value(this.variables.translate(value));
+        this.json.endArray();
+    }
+
+    private List<String> flatten(String name, LaunchGroup group, List<String> path) {
+        if (path.contains(name)) throw new IllegalArgumentException("Launch group includes itself: " + String.join(" -> ", path) + " -> " + name);
+        path.add(name);
+        List<String> out = new ArrayList<>();
+        for (LaunchGroup.Entry entry : group.entries()) {
+            if (!entry.enabled()) continue;
+            LaunchGroup nested = this.groups.get(entry.name());
+            if (nested != null) {
+                for (String flat : this.flatten(entry.name(), nested, path)) {
+                    if (!out.contains(flat)) out.add(flat);
+                }
+            } else if (this.names.contains(entry.name())) {
+                if (!out.contains(entry.name())) out.add(entry.name());
+            } else {
+                throw new IllegalArgumentException("Launch group " + name + " refers to unknown launch config " + entry.name());
+            }
+        }
+        path.remove(path.size() - 1);
+        return out;
+    }
+}
@@ -0,0 +1,145 @@
+package net.neoforged.elc.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A minimal streaming JSON writer, which pretty-prints its output with four-space indentation.
+ * <p>
+ * The writer does not validate its input beyond tracking nesting; callers are responsible for emitting names and values in a valid order.
+ */
+public final class JsonWriter {
+
+    private final Writer out;
+    private final Deque<Boolean> first = new ArrayDeque<>();
+    private boolean afterName;
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name The member name.
+     * @return this
+     */
+    public JsonWriter name(String name) throws IOException {
+        separate();
+        string(name);
+        this.out.write(": ");
+        this.afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        separate();
+        string(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        separate();
+        this.out.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(double value) throws IOException {
+        separate();
+        this.out.write(Double.isFinite(value) ? Double.toString(value) : "null");
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        separate();
+        this.out.write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        separate();
+        this.out.write("null");
+        return this;
+    }
+
+    /**
+     * Writes a name and string value pair.
+     *
+     * @return this
+     */
+    public JsonWriter property(String name, String value) throws IOException {
+        return name(name).value(value);
+    }
+
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    private JsonWriter open(char c) throws IOException {
+        separate();
+        this.out.write(c);
+        this.first.push(true);
+        return this;
+    }
+
+    private JsonWriter close(char c) throws IOException {
+        boolean empty = this.first.pop();
+        if (!empty) newline();
+        this.out.write(c);
+        return this;
+    }
+
+    private void separate() throws IOException {
+        if (this.afterName) {
+            this.afterName = false;
+            return;
+        }
+        if (this.first.isEmpty()) return;
+        if (!this.first.peek()) this.out.write(',');
+        this.first.pop();
+        this.first.push(false);
+        newline();
+    }
+
+    private void newline() throws IOException {
+        this.out.write('\n');
+        for (int i = 0; i < this.first.size(); i++) this.out.write("    ");
+    }
+
+    private void string(String value) throws IOException {
+        this.out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> this.out.write("\\\"");
+                case '\\' -> this.out.write("\\\\");
+                case '\n' -> this.out.write("\\n");
+                case '\r' -> this.out.write("\\r");
+                case '\t' -> this.out.write("\\t");
+                default -> {
+                    if (c < 0x20) this.out.write(String.format("\\u%04x", (int) c));
+                    else this.out.write(c);
+                }
+            }
+        }
+        this.out.write('"');
+    }
+}
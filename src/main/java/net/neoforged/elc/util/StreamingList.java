@@ -0,0 +1,125 @@
+package net.neoforged.elc.util;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A read-only list of strings produced by a lazy source, which lets launch configs hold values derived from large sources (such as task graphs or argument files)
+ * without keeping them in memory.
+ * <p>
+ * Iterating the list consumes the source, and baking a launch config turns the list into a {@link net.neoforged.elc.attributes.StreamingListAttribute},
+ * which consumes it once per write. Random access through {@link #get(int)} or {@link #size()} consumes the source once, and keeps its entries.
+ * The source must therefore produce the same entries each time it is called.
+ * <p>
+ * Streams are closed once iterated to the end, or once {@link #forEach(Consumer)} returns.
+ */
+public final class StreamingList extends AbstractList<String> {
+
+    private final Supplier<? extends Stream<String>> source;
+
+    @Nullable
+    private volatile List<String> materialized;
+
+    /**
+     * Creates a new list over a source.
+     *
+     * @param source The source of the entries, called once per consumption.
+     */
+    public StreamingList(Supplier<? extends Stream<String>> source) {
+        this.source = source;
+    }
+
+    /**
+     * Appends the entries of a source to a list, without consuming the source.
+     *
+     * @param head   The first entries. Unless it is a streaming list, it is copied.
+     * @param source The source of the following entries.
+     * @return A streaming list over both.
+     */
+    public static StreamingList concat(List<String> head, Supplier<? extends Stream<String>> source) {
+        Supplier<? extends Stream<String>> first;
+        if (head instanceof StreamingList streaming) first = streaming.source;
+        else if (head.isEmpty()) return new StreamingList(source);
+        else first = List.copyOf(head)::stream;
+        return new StreamingList(() -> Stream.concat(first.get(), source.get()));
+    }
+
+    /**
+     * Returns the source of the entries.
+     */
+    public Supplier<? extends Stream<String>> source() {
+        return this.source;
+    }
+
+    @Override
+    public String get(int index) {
+        return this.materialize().get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.materialize().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        List<String> materialized = this.materialized;
+        if (materialized != null) return materialized.isEmpty();
+        try (Stream<String> stream = this.source.get()) {
+            return stream.findAny().isEmpty();
+        }
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        List<String> materialized = this.materialized;
+        if (materialized != null) return materialized.iterator();
+        Stream<String> stream = this.source.get();
+        Iterator<String> it = stream.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (it.hasNext()) return true;
+                stream.close();
+                return false;
+            }
+
+            @Override
+            public String next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                return it.next();
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super String> action) {
+        try (Stream<String> stream = this.source.get()) {
+            stream.forEachOrdered(action);
+        }
+    }
+
+    @Override
+    public Stream<String> stream() {
+        return this.source.get();
+    }
+
+    private List<String> materialize() {
+        List<String> materialized = this.materialized;
+        if (materialized == null) {
+            // Racing threads may both consume the source, but will produce equal lists.
+            try (Stream<String> stream = this.source.get()) {
+                this.materialized = materialized = stream.collect(Collectors.toUnmodifiableList());
+            }
+        }
+        return materialized;
+    }
+}
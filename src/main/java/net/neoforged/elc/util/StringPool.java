@@ -0,0 +1,122 @@
+package net.neoforged.elc.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.elc.attributes.EValue;
+
+/**
+ * A String Pool stores a single canonical instance of each string routed through it.
+ * <p>
+ * Generating many launch configs tends to repeat the same strings (project names, JRE containers, Gradle distributions, JVM flags) thousands of times.
+ * Pools are opt-in and scoped to a generation session: {@linkplain #install() install} a pool on the current thread, and while it is installed the builders in
+ * {@link net.neoforged.elc.configs} and {@link EValue#of(String)} will deduplicate their strings through it. Once the session is {@linkplain Session#close() closed},
+ * the pool may be dropped, and the strings it held become eligible for collection once the generated configs are no longer referenced.
+ *
+ * <pre>
+ * try (var session = new StringPool().install()) {
+ *     // Build configs...
+ * }
+ * </pre>
+ *
+ * A single pool may be installed on multiple threads at once.
+ */
+public final class StringPool {
+
+    private static final ThreadLocal<StringPool> ACTIVE = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance of the given string, adding it to this pool if not already present.
+     *
+     * @param value The string to intern.
+     * @return The pooled instance that is {@linkplain String#equals(Object) equal} to <code>value</code>.
+     */
+    public String intern(String value) {
+        String existing = this.strings.get(value);
+        if (existing != null) return existing;
+        existing = this.strings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * Returns the number of distinct strings held by this pool.
+     */
+    public int size() {
+        return this.strings.size();
+    }
+
+    /**
+     * Removes all strings from this pool.
+     */
+    public void clear() {
+        this.strings.clear();
+    }
+
+    /**
+     * Installs this pool as the active pool of the current thread, replacing any previously active pool until the returned session is closed.
+     *
+     * @return A session which restores the previously active pool when closed.
+     */
+    public Session install() {
+        Session session = new Session(this, ACTIVE.get());
+        ACTIVE.set(this);
+        return session;
+    }
+
+    /**
+     * Returns the pool that is active on the current thread, or null if no pool is installed.
+     */
+    @Nullable
+    public static StringPool active() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Interns the given string through the {@linkplain #active() active pool}, if one is installed.
+     *
+     * @param value The string to intern.
+     * @return The pooled instance, or <code>value</code> if no pool is active or <code>value</code> is null.
+     */
+    @Contract("null -> null; !null -> !null")
+    public static String pooled(@Nullable String value) {
+        if (value == null) return null;
+        StringPool pool = ACTIVE.get();
+        return pool == null ? value : pool.intern(value);
+    }
+
+    /**
+     * A generation session during which a {@link StringPool} is active on a thread.
+     */
+    public static final class Session implements AutoCloseable {
+
+        private final StringPool pool;
+
+        @Nullable
+        private final StringPool previous;
+
+        private Session(StringPool pool, @Nullable StringPool previous) {
+            this.pool = pool;
+            this.previous = previous;
+        }
+
+        /**
+         * Returns the pool that was installed by this session.
+         */
+        public StringPool pool() {
+            return this.pool;
+        }
+
+        /**
+         * Uninstalls the pool, restoring whichever pool was active before this session was opened.
+         */
+        @Override
+        public void close() {
+            if (this.previous == null) ACTIVE.remove();
+            else ACTIVE.set(this.previous);
+        }
+    }
+}
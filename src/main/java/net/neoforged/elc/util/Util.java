@@ -5,6 +5,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+
 public class Util {
 
     /**
@@ -25,4 +28,32 @@ public class Util {
         return out;
     }
 
+    /**
+     * Returns the shared {@link XMLOutputFactory} used to write launch configs, which is created on first use.
+     * <p>
+     * This is always the JDK's built-in implementation, which creates independent writers and may be shared across threads.
+     * Unlike {@link XMLOutputFactory#newFactory()}, it skips the provider lookup, which scans the classpath and is slow on the large classpaths
+     * of build tools, and keeps the output independent of the StAX providers that happen to be on the classpath.
+     */
+    public static XMLOutputFactory xmlOutputFactory() {
+        return XmlFactories.OUTPUT;
+    }
+
+    /**
+     * Creates a new {@link XMLInputFactory} for reading launch configs, which does not resolve DTDs or external entities.
+     * <p>
+     * Like {@link #xmlOutputFactory()}, this is always the JDK's built-in implementation.
+     */
+    public static XMLInputFactory newXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static final class XmlFactories {
+        static final XMLOutputFactory OUTPUT = XMLOutputFactory.newDefaultFactory();
+    }
+
 }
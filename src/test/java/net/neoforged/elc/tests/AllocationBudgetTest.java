@@ -0,0 +1,81 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfig;
+import net.neoforged.elc.configs.LaunchGroup;
+import net.neoforged.elc.util.Util;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Asserts per-config allocation budgets for baking and writing, measured with the thread allocation counters of the JVM after warm-up.
+ * The budgets are roughly twice the measured values, so that they only fail on real regressions, not on JIT or JDK differences.
+ */
+public class AllocationBudgetTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 2_000;
+
+    private static final XMLOutputFactory FACTORY = Util.xmlOutputFactory();
+
+    @Test
+    public void testJavaApplicationBudget() throws Exception {
+        final var config = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .envVar("HOME_DIR", EclipseVariables.envVar("HOME"))
+                .envVar("LOG_LEVEL", "debug")
+                .workingDirectory(EclipseVariables.workspaceLocation("EclipseLaunchConfigs/run"))
+                .vmArgs("-Xmx256M", "-XX:+UseG1GC", "-Dfile.encoding=UTF-8")
+                .args("--doStuff=true", "--mode", "${string_prompt:Mode:dev}")
+                .build("net.neoforged.elc.tests.Main");
+        assertBudget("JavaApplicationLaunchConfig", config, 2_048, 6_144);
+    }
+
+    @Test
+    public void testGradleBudget() throws Exception {
+        final var config = GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .tasks(":prepare", ":build")
+                .args("--info")
+                .jvmArgs("-Xmx1G")
+                .build();
+        assertBudget("GradleLaunchConfig", config, 1_280, 5_120);
+    }
+
+    @Test
+    public void testLaunchGroupBudget() throws Exception {
+        final var config = LaunchGroup.builder()
+                .entry(LaunchGroup.entry("Prepare").action(LaunchGroup.Action.waitForTermination()))
+                .entry(LaunchGroup.entry("Run Server").action(LaunchGroup.Action.outputRegexp("Done \\(\\d+s\\)")))
+                .entry(LaunchGroup.entry("Run Client").adoptIfRunning(true))
+                .build();
+        assertBudget("LaunchGroup", config, 2_048, 6_144);
+    }
+
+    private static void assertBudget(String name, LaunchConfig config, long bakeBudget, long writeBudget) throws XMLStreamException {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assertions.assertTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        final Writer out = Writer.nullWriter();
+        for (int i = 0; i < WARMUP; i++) {
+            config.bakeAttributes();
+            config.write(out, FACTORY);
+        }
+
+        long start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) config.bakeAttributes();
+        final long bake = (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+
+        start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) config.write(out, FACTORY);
+        final long write = (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+
+        Assertions.assertTrue(bake <= bakeBudget, name + " baking allocated " + bake + " bytes per config, budget is " + bakeBudget);
+        Assertions.assertTrue(write <= writeBudget, name + " writing allocated " + write + " bytes per config, budget is " + writeBudget);
+    }
+}
@@ -0,0 +1,12 @@
+package net.neoforged.elc.tests;
+
+/**
+ * Main class launched by {@link LaunchBenchmarkTest}, which reports readiness and then idles until killed.
+ */
+public class BenchmarkMain {
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("Starting " + String.join(" ", args));
+        System.out.println("Server ready on port " + System.getenv("BENCH_PORT"));
+        Thread.sleep(60_000);
+    }
+}
@@ -0,0 +1,109 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfig;
+import net.neoforged.elc.configs.LaunchGroup;
+import net.neoforged.elc.export.IntelliJExporter;
+import net.neoforged.elc.export.VariableTranslator;
+import net.neoforged.elc.export.VsCodeExporter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ExportTest {
+    private static Map<String, LaunchConfig> configs() {
+        final Map<String, LaunchConfig> configs = new LinkedHashMap<>();
+        configs.put("Run Main", JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .envVar("HOME_DIR", EclipseVariables.envVar("HOME"))
+                .workingDirectory(EclipseVariables.workspaceLocation("EclipseLaunchConfigs/run"))
+                .vmArgs("-Xmx256M")
+                .args("--doStuff=true")
+                .build("net.neoforged.elc.tests.Main"));
+        configs.put("Prepare", GradleLaunchConfig.builder("EclipseLaunchConfigs").tasks(":prepare").jvmArgs("-Xmx1G").build());
+        configs.put("Prepare and Run", LaunchGroup.builder()
+                .entry(LaunchGroup.entry("Prepare").action(LaunchGroup.Action.waitForTermination()))
+                .entry(LaunchGroup.entry("Run Main"))
+                .build());
+        return configs;
+    }
+
+    @Test
+    public void testVariableTranslation() {
+        final var vsCode = VariableTranslator.vsCode().project("sub", "projects/sub");
+        Assertions.assertEquals("${workspaceFolder}/projects/sub/run", vsCode.translate("${workspace_loc:/sub/run}"));
+        Assertions.assertEquals("${env:HOME}:${string_prompt:Name}", vsCode.translate("${env_var:HOME}:${string_prompt:Name}"));
+        Assertions.assertEquals("$PROJECT_DIR$/run", VariableTranslator.intelliJ().translate("${project_loc:EclipseLaunchConfigs/run}"));
+    }
+
+    @Test
+    public void testVsCodeExport() throws Exception {
+        final var out = new StringWriter();
+        final var exporter = new VsCodeExporter(out, VariableTranslator.vsCode());
+        for (final var entry : configs().entrySet()) exporter.export(entry.getKey(), entry.getValue());
+        exporter.finish();
+
+        final var json = out.toString();
+        Assertions.assertTrue(json.contains("\"mainClass\": \"net.neoforged.elc.tests.Main\""), json);
+        Assertions.assertTrue(json.contains("\"cwd\": \"${workspaceFolder}/run\""), json);
+        Assertions.assertTrue(json.contains("\"HOME_DIR\": \"${env:HOME}\""), json);
+        Assertions.assertTrue(json.contains("\"command\": \"./gradlew :prepare -Dorg.gradle.jvmargs=-Xmx1G\""), json);
+        Assertions.assertTrue(json.contains("\"windows\": {"), json);
+        Assertions.assertTrue(json.contains("\"command\": \".\\\\gradlew.bat :prepare '-Dorg.gradle.jvmargs=-Xmx1G'\""), json);
+        Assertions.assertTrue(json.contains("\"compounds\""), json);
+    }
+
+    @Test
+    public void testVsCodeQuoting() throws Exception {
+        final var out = new StringWriter();
+        final var exporter = new VsCodeExporter(out, VariableTranslator.vsCode());
+        exporter.export("Greet", GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .tasks(":greet")
+                .args("-Pname=two words", "-Pgreeting=Say \"hi\"")
+                .jvmArgs("-Dname=two words", "-Dtitle=it's")
+                .build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> exporter.export("Both", GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .jvmArgs("-Dtitle=\"it's\"")
+                .build()));
+        exporter.finish();
+
+        // ./gradlew :greet '-Pname=two words' '-Pgreeting=Say "hi"' '-Dorg.gradle.jvmargs="-Dname=two words" "-Dtitle=it'\''s"'
+        final var json = out.toString();
+        Assertions.assertTrue(json.contains("\"command\": \"./gradlew :greet '-Pname=two words' '-Pgreeting=Say \\\"hi\\\"' "
+                + "'-Dorg.gradle.jvmargs=\\\"-Dname=two words\\\" \\\"-Dtitle=it'\\\\''s\\\"'\""), json);
+        // .\gradlew.bat :greet '-Pname=two words' '-Pgreeting=Say "hi"' '-Dorg.gradle.jvmargs="-Dname=two words" "-Dtitle=it''s"'
+        Assertions.assertTrue(json.contains("\"command\": \".\\\\gradlew.bat :greet '-Pname=two words' '-Pgreeting=Say \\\"hi\\\"' "
+                + "'-Dorg.gradle.jvmargs=\\\"-Dname=two words\\\" \\\"-Dtitle=it''s\\\"'\""), json);
+    }
+
+    @Test
+    public void testIntelliJExport(@TempDir Path dir) throws Exception {
+        final var exporter = new IntelliJExporter(dir, VariableTranslator.intelliJ());
+        exporter.exportAll(configs());
+        exporter.export("Run Module", JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .vmArgs("-Dtitle=Say \"hi\"")
+                .args("", "two words")
+                .moduleName("net.neoforged.elc.tests")
+                .build("net.neoforged.elc.tests.Main"));
+        exporter.export("Run/Main", configs().get("Run Main"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> exporter.export("Run:Main", configs().get("Run Main")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> exporter.export("run main", configs().get("Run Main")));
+        exporter.finish();
+
+        final var app = Files.readString(dir.resolve("Run Main.run.xml"));
+        Assertions.assertTrue(app.contains("<option name=\"WORKING_DIRECTORY\" value=\"$PROJECT_DIR$/run\"/>"), app);
+        final var compound = Files.readString(dir.resolve("Prepare and Run.run.xml"));
+        Assertions.assertTrue(compound.contains("<toRun name=\"Prepare\" type=\"GradleRunConfiguration\"/>"), compound);
+        Assertions.assertTrue(Files.readString(dir.resolve("Prepare.run.xml")).contains("<option value=\":prepare\"/>"));
+        final var module = Files.readString(dir.resolve("Run Module.run.xml"));
+        Assertions.assertTrue(module.contains("<option name=\"VM_PARAMETERS\" value=\"--add-modules net.neoforged.elc.tests &quot;-Dtitle=Say \\&quot;hi\\&quot;&quot;\"/>"), module);
+        Assertions.assertTrue(module.contains("<option name=\"PROGRAM_PARAMETERS\" value=\"&quot;&quot; &quot;two words&quot;\"/>"), module);
+    }
+}
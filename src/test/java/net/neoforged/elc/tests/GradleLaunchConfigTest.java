@@ -1,8 +1,19 @@
 package net.neoforged.elc.tests;
 
+import net.neoforged.elc.attributes.EAttribute;
+import net.neoforged.elc.attributes.StreamingListAttribute;
 import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.GradlePerformance;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import javax.xml.stream.XMLOutputFactory;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 public class GradleLaunchConfigTest extends RunTest {
     @Test
     public void testGradleConfig() throws Exception {
@@ -15,4 +26,86 @@ public class GradleLaunchConfigTest extends RunTest {
                 .jvmArgs("-Xmx256M")
                 .build(), "runGradle.launch");
     }
+
+    @Test
+    public void testBakedLookup() {
+        final var baked = GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .tasks(":hello", ":world")
+                .build()
+                .bake();
+        Assertions.assertEquals(2, baked.get(GradleLaunchConfig.TypedKeys.TASKS).values().size());
+        Assertions.assertEquals("${workspace_loc:EclipseLaunchConfigs}", baked.getValue(GradleLaunchConfig.Keys.WORKING_DIR));
+        Assertions.assertNull(baked.getPrimitive(GradleLaunchConfig.Keys.JAVA_HOME));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> baked.getMap(GradleLaunchConfig.Keys.TASKS));
+    }
+
+    @Test
+    public void testPerformancePreset() {
+        final var preset = GradlePerformance.builder().parallel(true).buildCache(true).cores(4).build();
+        final var config = GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .tasks(":hello")
+                .args("--console=plain")
+                .performance(preset)
+                .build();
+        Assertions.assertEquals(List.of("--console=plain", "--parallel", "--build-cache", "--max-workers=4"), config.arguments());
+        Assertions.assertEquals(List.of("-Xmx2560m"), config.jvmArguments());
+        Assertions.assertTrue(config.overrideWorkspace());
+        // Removing a profile does not override the workspace settings by itself.
+        Assertions.assertFalse(GradleLaunchConfig.builder("EclipseLaunchConfigs").tasks(":hello").performance(null).build().overrideWorkspace());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GradleLaunchConfig.builder("EclipseLaunchConfigs").args("--no-daemon").build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GradleLaunchConfig.builder("EclipseLaunchConfigs").args("--no-parallel").performance(preset).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GradleLaunchConfig.builder("EclipseLaunchConfigs").jvmArgs("-Xmx1G").performance(preset).build());
+    }
+
+    @Test
+    public void testExtraAttributes() {
+        final var config = GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .extraAttribute(EAttribute.of("org.eclipse.debug.ui.ATTR_CAPTURE_IN_CONSOLE", true))
+                .build();
+        Assertions.assertEquals("true", config.bake().getValue("org.eclipse.debug.ui.ATTR_CAPTURE_IN_CONSOLE"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .extraAttribute(EAttribute.of(GradleLaunchConfig.Keys.OFFLINE_MODE, true)).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .extraAttribute(EAttribute.of("custom", true))
+                .extraAttribute(EAttribute.of("custom", false)).build());
+    }
+
+    @Test
+    public void testStreamingListAttribute() throws Exception {
+        final var attribute = StreamingListAttribute.of("tasks", () -> IntStream.range(0, 3).mapToObj(i -> ":task" + i));
+        final var out = new StringWriter();
+        final var writer = XMLOutputFactory.newFactory().createXMLStreamWriter(out);
+        attribute.write(writer, null);
+        writer.flush();
+        Assertions.assertTrue(out.toString().contains("<listEntry value=\":task2\"></listEntry>"), out.toString());
+        Assertions.assertEquals(3, attribute.materialize().values().size());
+    }
+
+    @Test
+    public void testLazySources() throws Exception {
+        final var consumed = new AtomicInteger();
+        final var config = GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .tasks(":first")
+                .tasks(() -> {
+                    consumed.incrementAndGet();
+                    return IntStream.range(0, 3).mapToObj(i -> ":task" + i);
+                })
+                .tasks(":last")
+                .args(List.of("--console=plain"))
+                .build();
+        Assertions.assertEquals(0, consumed.get());
+
+        final var baked = config.bake();
+        Assertions.assertTrue(baked.get(GradleLaunchConfig.Keys.TASKS) instanceof StreamingListAttribute);
+        final var out = new StringWriter();
+        config.write(out);
+        Assertions.assertEquals(1, consumed.get());
+        Assertions.assertTrue(out.toString().indexOf(":first") < out.toString().indexOf(":task2"), out.toString());
+        Assertions.assertTrue(out.toString().indexOf(":task2") < out.toString().indexOf(":last"), out.toString());
+
+        Assertions.assertEquals(5, baked.get(GradleLaunchConfig.TypedKeys.TASKS).values().size());
+        Assertions.assertEquals("--console=plain", baked.getList(GradleLaunchConfig.Keys.ARGUMENTS).values().get(0).serialize());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GradleLaunchConfig.builder("EclipseLaunchConfigs")
+                .args(() -> Stream.of("--no-daemon")).build());
+    }
 }
@@ -0,0 +1,37 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.configs.JUnitLaunchConfig;
+import net.neoforged.elc.configs.JUnitShardPlanner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class JUnitLaunchConfigTest extends RunTest {
+    @Test
+    public void testJUnitConfig() throws Exception {
+        assertExpectedConfig(JUnitLaunchConfig.builder("EclipseLaunchConfigs")
+                .vmArgs("-Xmx256M")
+                .keepRunning(true)
+                .build("net.neoforged.elc.tests.RunTest"), "runJUnit.launch");
+    }
+
+    @Test
+    public void testShardPlan() {
+        final var plan = JUnitShardPlanner.create("EclipseLaunchConfigs", "Tests", 2)
+                .test("a.A", 70)
+                .test("a.B", 50)
+                .test("a.C", 40)
+                .test("a.D", 30)
+                .test("a.E", 10)
+                .plan();
+
+        Assertions.assertEquals(2, plan.shards().size());
+        Assertions.assertEquals(100, plan.makespanMillis());
+        Assertions.assertEquals(List.of("--select-class=a.A", "--select-class=a.D"), plan.shards().get(0).config().arguments());
+        Assertions.assertEquals(List.of("--select-class=a.B", "--select-class=a.C", "--select-class=a.E"), plan.shards().get(1).config().arguments());
+        Assertions.assertEquals(JUnitShardPlanner.CONSOLE_LAUNCHER, plan.shards().get(0).config().mainClass());
+        Assertions.assertEquals(List.of("Tests - Shard 1", "Tests - Shard 2", "Tests"), List.copyOf(plan.configs().keySet()));
+        Assertions.assertEquals("Tests - Shard 2", plan.group().entries().get(1).name());
+    }
+}
@@ -1,9 +1,24 @@
 package net.neoforged.elc.tests;
 
 import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.attributes.EAttribute;
+import net.neoforged.elc.configs.AppCdsGenerator;
+import net.neoforged.elc.configs.ClasspathEntry;
 import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.JfrProfile;
+import net.neoforged.elc.configs.JvmProfile;
+import net.neoforged.elc.configs.LaunchConfigPatcher;
+import net.neoforged.elc.configs.PackedEnvironment;
+import net.neoforged.elc.configs.SourceLookup;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 public class JavaApplicationLaunchConfigTest extends RunTest {
     @Test
     public void testJavaConfig() throws Exception {
@@ -14,4 +29,129 @@ public class JavaApplicationLaunchConfigTest extends RunTest {
                 .args("--doStuff=true")
                 .build("net.neoforged.elc.tests.Main"), "runJava.launch");
     }
+
+    @Test
+    public void testClasspathConfig() throws Exception {
+        assertExpectedConfig(JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .classpath(ClasspathEntry.container("org.eclipse.jdt.launching.JRE_CONTAINER"),
+                        ClasspathEntry.project("EclipseLaunchConfigs"),
+                        ClasspathEntry.externalArchive("/libs/a & b.jar").withSourceAttachment("/libs/a-sources.jar", null),
+                        ClasspathEntry.defaultClasspath("EclipseLaunchConfigs"))
+                .modulepath(ClasspathEntry.externalArchive("/libs/mod.jar"))
+                .build("net.neoforged.elc.tests.Main"), "runJavaClasspath.launch");
+    }
+
+    @Test
+    public void testSourceLookupMemento() {
+        final var lookup = SourceLookup.builder()
+                .container(SourceLookup.Container.DEFAULT)
+                .container(SourceLookup.Container.externalArchive("/libs/a-sources.jar"), SourceLookup.Container.externalArchive("/libs/a-sources.jar"))
+                .build();
+        Assertions.assertEquals(2, lookup.containers().size());
+        Assertions.assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?><sourceLookupDirector><sourceContainers duplicates=\"false\">"
+                + "<container memento=\"&lt;?xml version=&quot;1.0&quot; encoding=&quot;UTF-8&quot; standalone=&quot;no&quot;?&gt;&lt;default/&gt;\" typeId=\"org.eclipse.debug.core.containerType.default\"/>"
+                + "<container memento=\"&lt;?xml version=&quot;1.0&quot; encoding=&quot;UTF-8&quot; standalone=&quot;no&quot;?&gt;&lt;archive detectRoot=&quot;true&quot; path=&quot;/libs/a-sources.jar&quot;/&gt;\" typeId=\"org.eclipse.debug.core.containerType.externalArchive\"/>"
+                + "</sourceContainers></sourceLookupDirector>", lookup.toMemento());
+    }
+
+    @Test
+    public void testDuplicateExtraAttribute() {
+        final var builder = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .extraAttribute(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_STOP_IN_MAIN, true));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.build("net.neoforged.elc.tests.Main"));
+        // Keys the config only bakes conditionally are reserved as well.
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .extraAttribute(EAttribute.of(JavaApplicationLaunchConfig.Keys.ATTR_MODULE_NAME, "module")).build("net.neoforged.elc.tests.Main"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .extraAttribute(EAttribute.of("custom", "a"))
+                .extraAttribute(EAttribute.of("custom", "b")).build("net.neoforged.elc.tests.Main"));
+    }
+
+    @Test
+    public void testAppCdsConfigs() {
+        final var config = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .classpath(ClasspathEntry.project("EclipseLaunchConfigs"))
+                .vmArgs("-Xmx256M")
+                .build("net.neoforged.elc.tests.Main");
+        final var cds = AppCdsGenerator.builder("Run Main", config).build();
+        Assertions.assertEquals(cds.hash(), AppCdsGenerator.classpathHash(config, null));
+        Assertions.assertNotEquals(cds.hash(), AppCdsGenerator.classpathHash(config, "dep.jar"));
+        Assertions.assertEquals("\"-XX:ArchiveClassesAtExit=" + cds.archivePath() + "\"", cds.training().vmArguments().get(1));
+        Assertions.assertEquals("\"-XX:SharedArchiveFile=" + cds.archivePath() + "\"", cds.fast().vmArguments().get(1));
+        Assertions.assertEquals(config.classpath(), cds.fast().classpath());
+        Assertions.assertEquals(2, cds.group().entries().size());
+        Assertions.assertEquals(1, AppCdsGenerator.builder("Run Main", config).autoCreate(true).build().group().entries().size());
+    }
+
+    @Test
+    public void testJfrProfile() {
+        final var config = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .vmArgs("-Xmx256M")
+                .build("net.neoforged.elc.tests.Main");
+        final var profiled = JfrProfile.builder("main").duration(Duration.ofMinutes(2)).apply(config);
+        Assertions.assertEquals("\"-XX:StartFlightRecording=name=main,settings=profile,duration=120s,filename=${project_loc:EclipseLaunchConfigs}/jfr/main-${current_date:yyyyMMdd-HHmmss}.jfr\"",
+                profiled.vmArguments().get(1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JfrProfile.builder("again").apply(profiled));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JfrProfile.builder("a,b"));
+    }
+
+    @Test
+    public void testJvmProfiles() {
+        final var config = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .vmArgs("-XX:-OmitStackTraceInFastThrow")
+                .profile(JvmProfile.throughput(4096, 8).and(JvmProfile.debugFriendly()))
+                .build("net.neoforged.elc.tests.Main");
+        Assertions.assertEquals(List.of("-XX:-OmitStackTraceInFastThrow", "-XX:+UseG1GC", "-Xms3072m", "-Xmx3072m", "-XX:ParallelGCThreads=8", "-XX:ConcGCThreads=2",
+                "-XX:+ShowCodeDetailsInExceptionMessages", "-XX:+HeapDumpOnOutOfMemoryError"), config.vmArguments());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .vmArgs("-XX:MaxHeapSize=1g")
+                .profile(JvmProfile.smallFootprint(512))
+                .build("net.neoforged.elc.tests.Main"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JvmProfile.lowLatency(2048, 4).and(JvmProfile.throughput(2048, 4)));
+    }
+
+    @Test
+    public void testLayeredEnvironment() {
+        final var base = PackedEnvironment.of(Map.of("B", "base", "A", "base", "C", "base"));
+        final var profile = PackedEnvironment.of(Map.of("C", "profile", "D", "profile"));
+        final var config = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .environment(base)
+                .environment(profile)
+                .envVar("A", "user")
+                .build("net.neoforged.elc.tests.Main");
+        Assertions.assertEquals(List.of("A", "B", "C", "D"), List.copyOf(config.envVars().keySet()));
+        Assertions.assertEquals(Map.of("A", "user", "B", "base", "C", "profile", "D", "profile"), config.envVars());
+        Assertions.assertEquals(PackedEnvironment.merge(base, profile, Map.of("A", "user")), config.envVars());
+        Assertions.assertSame(config.bake().getMap(JavaApplicationLaunchConfig.Keys.ATTR_ENV_VARS).data(), config.bake().getMap(JavaApplicationLaunchConfig.Keys.ATTR_ENV_VARS).data());
+    }
+
+    @Test
+    public void testPatchPreservesEclipseAttributes() throws Exception {
+        final var existing = """
+                <?xml version="1.0" encoding="UTF-8" standalone="no"?>
+                <launchConfiguration type="org.eclipse.jdt.launching.localJavaApplication">
+                    <listAttribute key="org.eclipse.debug.ui.favoriteGroups">
+                        <listEntry value="org.eclipse.debug.ui.launchGroup.run"/>
+                    </listAttribute>
+                    <stringAttribute key="org.eclipse.jdt.launching.PROGRAM_ARGUMENTS" value="--old"/>
+                    <stringAttribute key="org.eclipse.jdt.launching.WORKING_DIRECTORY" value="/old"/>
+                    <stringAttribute key="org.eclipse.jdt.launching.PROJECT_ATTR" value="EclipseLaunchConfigs"/>
+                </launchConfiguration>
+                """;
+        final var config = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .args("--new")
+                .build("net.neoforged.elc.tests.Main");
+        final var out = new StringWriter();
+        new LaunchConfigPatcher().patch(new StringReader(existing), out, config);
+
+        final var patched = out.toString();
+        final int favorites = patched.indexOf("org.eclipse.debug.ui.favoriteGroups");
+        final int args = patched.indexOf("value=\" --new\"");
+        Assertions.assertTrue(favorites > 0 && args > favorites, patched);
+        Assertions.assertTrue(patched.contains("<listEntry value=\"org.eclipse.debug.ui.launchGroup.run\">"), patched);
+        Assertions.assertFalse(patched.contains("--old"), patched);
+        Assertions.assertFalse(patched.contains("WORKING_DIRECTORY"), patched);
+        Assertions.assertTrue(patched.contains("org.eclipse.jdt.launching.MAIN_TYPE"), patched);
+        Assertions.assertEquals(1, patched.split("PROJECT_ATTR", -1).length - 1, patched);
+    }
 }
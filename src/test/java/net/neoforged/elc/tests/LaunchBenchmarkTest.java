@@ -0,0 +1,50 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.configs.LaunchGroup;
+import net.neoforged.elc.launch.HeadlessLauncher;
+import net.neoforged.elc.launch.LaunchBenchmark;
+import net.neoforged.elc.launch.VariableResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+public class LaunchBenchmarkTest {
+    @Test
+    @Tag("benchmark")
+    public void testBenchmark() throws Exception {
+        final var launcher = new HeadlessLauncher(new VariableResolver(Path.of(".")));
+        Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator)).map(Path::of).forEach(launcher::classpath);
+
+        final var report = new LaunchBenchmark(launcher)
+                .config("bench", JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                        .vmArgs("-Xmx64M")
+                        .args("--mode=${string_prompt:Mode:test}")
+                        .envVar("BENCH_PORT", "8080")
+                        .build("net.neoforged.elc.tests.BenchmarkMain"), LaunchGroup.Action.outputRegexp("ready on port \\d+"))
+                .iterations(2)
+                .warmups(1)
+                .timeout(Duration.ofSeconds(30))
+                .run();
+
+        final var result = report.configs().get(0);
+        Assertions.assertEquals(2, result.initial().runs());
+        Assertions.assertEquals(0, result.warm().failures());
+        Assertions.assertTrue(result.warm().medianMillis() > 0);
+
+        final var json = new StringWriter();
+        report.writeJson(json);
+        Assertions.assertTrue(json.toString().contains("\"name\": \"bench\""), json.toString());
+    }
+
+    @Test
+    public void testSplitArguments() {
+        Assertions.assertEquals(Arrays.asList("-a", "b c", "d\"e"), HeadlessLauncher.splitArguments(" -a \"b c\"  d\\\"e"));
+    }
+}
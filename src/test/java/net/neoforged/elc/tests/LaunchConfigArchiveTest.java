@@ -0,0 +1,42 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfigArchive;
+import net.neoforged.elc.configs.LaunchConfigRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.ZipInputStream;
+
+public class LaunchConfigArchiveTest {
+    @Test
+    public void testReproducibleArchive() throws Exception {
+        final var first = new ByteArrayOutputStream();
+        final var second = new ByteArrayOutputStream();
+        for (final var out : List.of(first, second)) {
+            final var registry = new LaunchConfigRegistry();
+            IntStream.range(0, 16).parallel().forEach(i -> registry.register("project" + (i % 2), "Build " + i, GradleLaunchConfig.builder("project" + (i % 2)).tasks(":build").build()));
+            try (final var archive = new LaunchConfigArchive(out)) {
+                archive.addAll(registry);
+            }
+        }
+        Assertions.assertTrue(Arrays.equals(first.toByteArray(), second.toByteArray()));
+
+        final List<String> names = new ArrayList<>();
+        try (final var zip = new ZipInputStream(new ByteArrayInputStream(first.toByteArray()))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                Assertions.assertTrue(new String(zip.readAllBytes()).contains("org.eclipse.buildship.core.launch.runconfiguration"));
+            }
+        }
+        Assertions.assertEquals(16, names.size());
+        Assertions.assertEquals("project0/Build 0.launch", names.get(0));
+        Assertions.assertEquals("project0/Build 10.launch", names.get(1));
+    }
+}
@@ -0,0 +1,54 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.configs.LaunchConfigComparator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.Optional;
+
+public class LaunchConfigComparatorTest {
+    private static final String EXPECTED = """
+            <?xml version="1.0" ?>
+            <launchConfiguration type="test">
+                <stringAttribute key="name" value="Run"></stringAttribute>
+                <listAttribute key="args">
+                    <listEntry value="a"></listEntry>
+                    <listEntry value="b"></listEntry>
+                </listAttribute>
+                <mapAttribute key="env">
+                    <mapEntry key="A" value="1"></mapEntry>
+                    <mapEntry key="B" value="2"></mapEntry>
+                </mapAttribute>
+            </launchConfiguration>
+            """;
+
+    private static Optional<LaunchConfigComparator.Difference> compare(String actual) throws Exception {
+        return new LaunchConfigComparator().compare(new StringReader(EXPECTED), new StringReader(actual));
+    }
+
+    @Test
+    public void testOrderInsensitiveEntries() throws Exception {
+        Assertions.assertEquals(Optional.empty(), compare("""
+                <launchConfiguration type="test">
+                    <mapAttribute key="env"><mapEntry key="B" value="2"/><mapEntry key="A" value="1"/></mapAttribute>
+                    <!-- Attributes may be in any order. -->
+                    <listAttribute key="args"><listEntry value="a"/><listEntry value="b"/></listAttribute>
+                    <stringAttribute key="name" value="Run"/>
+                </launchConfiguration>"""));
+    }
+
+    @Test
+    public void testReportsFirstDifference() throws Exception {
+        final var listOrder = compare(EXPECTED.replace("value=\"a\"", "value=\"c\"").replace("value=\"b\"", "value=\"a\"").replace("value=\"c\"", "value=\"b\""));
+        Assertions.assertEquals("Attribute args differs: expected listAttribute [a, b] but was listAttribute [b, a]", listOrder.orElseThrow().message());
+
+        final var missing = compare(EXPECTED.replace("<stringAttribute key=\"name\" value=\"Run\"></stringAttribute>", ""));
+        Assertions.assertEquals("name", missing.orElseThrow().key());
+        Assertions.assertNull(missing.orElseThrow().actual());
+
+        final var type = compare(EXPECTED.replace("type=\"test\"", "type=\"other\""));
+        Assertions.assertEquals("Expected launch config type test but was other", type.orElseThrow().message());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> compare("<launchGroup/>"));
+    }
+}
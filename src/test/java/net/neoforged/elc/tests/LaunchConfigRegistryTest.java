@@ -0,0 +1,76 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfigRegistry;
+import net.neoforged.elc.configs.LaunchConfigWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+public class LaunchConfigRegistryTest {
+    @Test
+    public void testParallelRegistrationAndFlush(@TempDir Path root) throws Exception {
+        final var registry = new LaunchConfigRegistry();
+        IntStream.range(0, 64).parallel().forEach(i -> registry.register("project" + (i % 4), "Build " + i, GradleLaunchConfig.builder("project" + (i % 4)).tasks(":build").build()));
+        Assertions.assertEquals(64, registry.size());
+        Assertions.assertEquals("project0", registry.entries().get(0).getKey().project());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register("project0", "Build 0", GradleLaunchConfig.builder("project0").build()));
+
+        final var writer = new LaunchConfigWriter(project -> root.resolve(project).resolve(".eclipse/configurations")).skipUnchanged(true);
+        registry.flush(writer);
+        Assertions.assertEquals(64, writer.written());
+        Assertions.assertTrue(Files.isRegularFile(root.resolve("project1/.eclipse/configurations/Build 1.launch")));
+        Assertions.assertThrows(IllegalStateException.class, () -> registry.register("project0", "Late", GradleLaunchConfig.builder("project0").build()));
+
+        writer.write("project1", "Build 1", registry.get("project1", "Build 1"));
+        Assertions.assertEquals(1, writer.skipped());
+    }
+
+    @Test
+    public void testRegistrationRacingFlush(@TempDir Path root) throws Exception {
+        final var registry = new LaunchConfigRegistry();
+        final var writer = new LaunchConfigWriter(project -> root.resolve(project));
+        final int threads = 4;
+        final var start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> registered = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final String project = "project" + t;
+                registered.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    try {
+                        while (true) {
+                            registry.register(project, "Build " + count, GradleLaunchConfig.builder(project).tasks(":build").build());
+                            count++;
+                        }
+                    } catch (IllegalStateException e) {
+                        return count;
+                    }
+                }));
+            }
+            start.countDown();
+            while (registry.size() < 100) Thread.onSpinWait();
+            registry.flush(writer);
+
+            // Every registration that did not throw must have been written by the flush.
+            int total = 0;
+            for (final var count : registered) total += count.get();
+            Assertions.assertEquals(total, registry.size());
+            Assertions.assertEquals(total, writer.written());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
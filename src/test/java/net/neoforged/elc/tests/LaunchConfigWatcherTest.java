@@ -0,0 +1,126 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfigWatcher;
+import net.neoforged.elc.configs.LaunchConfigWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class LaunchConfigWatcherTest {
+    private static final int CONFIGS = 5000;
+    private static final int EDITS = 11;
+    private static final long TARGET_MILLIS = 100;
+
+    @Test
+    public void testWatcherRegeneratesAffectedConfigs(@TempDir Path root) throws Exception {
+        final var inputs = Files.createDirectories(root.resolve("runs"));
+        final var writer = new LaunchConfigWriter(project -> root.resolve("out")).skipUnchanged(true);
+        final var builder = LaunchConfigWatcher.builder(writer);
+        for (int i = 0; i < CONFIGS; i++) {
+            final Path input = inputs.resolve("run" + (i % 1000) + ".txt");
+            Files.writeString(input, "-Xmx1G");
+            builder.unit("project", "Run " + i, List.of(input), () -> GradleLaunchConfig.builder("project").jvmArgs(read(input)).build());
+        }
+
+        // The listener always fails, which must not stop the watcher.
+        final var results = new LinkedBlockingQueue<LaunchConfigWatcher.Result>();
+        final var listenerFailures = new LinkedBlockingQueue<Throwable>();
+        try (final var watcher = builder.listener(result -> {
+            results.add(result);
+            throw new IllegalStateException("Listener failure");
+        }).build()) {
+            Assertions.assertEquals(CONFIGS, watcher.regenerateAll().written());
+
+            // The watch service also sees this write, so the watching thread reports it once more, with nothing left to write.
+            Files.writeString(inputs.resolve("run7.txt"), "-Xmx2G");
+            final var result = watcher.changed(List.of(inputs.resolve("run7.txt")));
+            Assertions.assertEquals(5, result.regenerated());
+            Assertions.assertEquals(5, result.written());
+
+            final var thread = new Thread(watcher);
+            thread.setUncaughtExceptionHandler((t, e) -> listenerFailures.add(e));
+            thread.start();
+            for (final int run : new int[] { 8, 9 }) {
+                // Replaced atomically, so that the watcher never sees a partially written file.
+                final var input = inputs.resolve("run" + run + ".txt");
+                Files.move(Files.writeString(inputs.resolve("run" + run + ".tmp"), "-Xmx3G"), input, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                final var watched = poll(results, input);
+                Assertions.assertEquals(5, watched.written());
+                Assertions.assertTrue(Files.readString(root.resolve("out/Run 100" + run + ".launch")).contains("-Xmx3G"));
+            }
+            Assertions.assertFalse(listenerFailures.isEmpty());
+            Assertions.assertEquals("Listener failure", listenerFailures.peek().getMessage());
+            watcher.close();
+            thread.join(1000);
+        }
+    }
+
+    /**
+     * Measures the regeneration of a single edited file in a workspace of 5000 launch configs, which is what a developer waits for after each edit.
+     * Every config has its own input, so only the finding of the affected unit depends on the size of the workspace.
+     */
+    @Test
+    @Tag("benchmark")
+    public void testSingleEditLatency(@TempDir Path root, TestReporter reporter) throws Exception {
+        final var inputs = Files.createDirectories(root.resolve("runs"));
+        final var builder = LaunchConfigWatcher.builder(new LaunchConfigWriter(project -> root.resolve("out")).skipUnchanged(true));
+        for (int i = 0; i < CONFIGS; i++) {
+            final Path input = inputs.resolve("run" + i + ".txt");
+            Files.writeString(input, "-Xmx1G");
+            builder.unit("project", "Run " + i, List.of(input), () -> GradleLaunchConfig.builder("project").jvmArgs(read(input)).build());
+        }
+
+        final long[] elapsed = new long[EDITS];
+        try (final var watcher = builder.build()) {
+            Assertions.assertEquals(CONFIGS, watcher.regenerateAll().written());
+            for (int i = 0; i < EDITS; i++) {
+                final var input = inputs.resolve("run" + (i * 401) + ".txt");
+                Files.writeString(input, "-Xmx" + (i + 2) + "G");
+                final var result = watcher.changed(List.of(input));
+                Assertions.assertEquals(1, result.written());
+                elapsed[i] = result.elapsedNanos();
+            }
+        }
+        Arrays.sort(elapsed);
+
+        final long editMillis = TimeUnit.NANOSECONDS.toMillis(elapsed[EDITS / 2]);
+        reporter.publishEntry("editMillis", Long.toString(editMillis));
+        reporter.publishEntry("slowestEditMillis", Long.toString(TimeUnit.NANOSECONDS.toMillis(elapsed[EDITS - 1])));
+        Assertions.assertTrue(editMillis < TARGET_MILLIS, "Single edit took " + editMillis + "ms, target is " + TARGET_MILLIS + "ms");
+    }
+
+    /**
+     * Waits for the result of the regeneration triggered by a change to the given file, skipping the results of earlier changes.
+     */
+    private static LaunchConfigWatcher.Result poll(BlockingQueue<LaunchConfigWatcher.Result> results, Path changed) throws InterruptedException {
+        final Path path = changed.toAbsolutePath().normalize();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            final var result = results.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            Assertions.assertNotNull(result, "No regeneration was triggered by " + path);
+            if (result.changed().contains(path)) return result;
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
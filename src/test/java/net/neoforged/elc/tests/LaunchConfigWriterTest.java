@@ -0,0 +1,45 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import net.neoforged.elc.configs.LaunchConfigWriter;
+import net.neoforged.elc.configs.WriteStatistics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class LaunchConfigWriterTest {
+    @Test
+    public void testWriteMetricsAndEvents(@TempDir Path root) throws Exception {
+        final var statistics = new WriteStatistics();
+        final var writer = new LaunchConfigWriter(project -> root).skipUnchanged(true).listener(statistics);
+        final var recordingFile = root.resolve("write.jfr");
+        try (final var recording = new Recording()) {
+            recording.enable("net.neoforged.elc.Bake");
+            recording.enable("net.neoforged.elc.Write");
+            recording.enable("net.neoforged.elc.Skip");
+            recording.start();
+            for (int i = 0; i < 10; i++) writer.write("project", "Build " + i, GradleLaunchConfig.builder("project").tasks(":build" + i).build());
+            writer.write("project", "Build 0", GradleLaunchConfig.builder("project").tasks(":build0").build());
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        Assertions.assertEquals(11, statistics.count());
+        Assertions.assertEquals(1, statistics.skipped());
+        Assertions.assertTrue(statistics.percentileNanos(50) <= statistics.percentileNanos(99));
+        Assertions.assertEquals(3, statistics.slowest(3).size());
+        Assertions.assertTrue(statistics.summary(3).startsWith("11 launch configs (1 skipped)"));
+
+        final var events = RecordingFile.readAllEvents(recordingFile);
+        Assertions.assertEquals(11, events.stream().filter(e -> e.getEventType().getName().equals("net.neoforged.elc.Bake")).count());
+        Assertions.assertEquals(10, events.stream().filter(e -> e.getEventType().getName().equals("net.neoforged.elc.Write")).count());
+        final var skip = events.stream().filter(e -> e.getEventType().getName().equals("net.neoforged.elc.Skip")).findFirst().orElseThrow();
+        Assertions.assertEquals(GradleLaunchConfig.Keys.TYPE, skip.getString("configType"));
+        Assertions.assertEquals(Files.size(root.resolve("Build 0.launch")), skip.getLong("bytes"));
+    }
+}
@@ -1,8 +1,16 @@
 package net.neoforged.elc.tests;
 
 import net.neoforged.elc.configs.LaunchGroup;
+import net.neoforged.elc.configs.LaunchGroupPlanner;
+import net.neoforged.elc.configs.LaunchWorkspace;
+import net.neoforged.elc.configs.GradleLaunchConfig;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class LaunchGroupConfigTest extends RunTest {
     @Test
     public void testGroupConfig() throws Exception {
@@ -19,4 +27,133 @@ public class LaunchGroupConfigTest extends RunTest {
                         .action(LaunchGroup.Action.waitForTermination()))
                 .build(), "runGroup.launch");
     }
+
+    @Test
+    public void testPlannedGroup() {
+        final var group = LaunchGroupPlanner.create()
+                .service(LaunchGroupPlanner.service("db").readyWhen("ready to accept connections"))
+                .service(LaunchGroupPlanner.service("cache").readyWhen("Ready"))
+                .service(LaunchGroupPlanner.service("api").dependsOn("db", "cache").readyWhen("Started"))
+                .service(LaunchGroupPlanner.service("web").dependsOn("api"))
+                .service(LaunchGroupPlanner.service("worker").dependsOn("db"))
+                .service(LaunchGroupPlanner.service("metrics"))
+                .plan();
+
+        Assertions.assertEquals(List.of("metrics", "db", "worker", "cache", "api", "web"),
+                group.entries().stream().map(LaunchGroup.Entry::name).collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(LaunchGroup.Action.ActionType.NONE, LaunchGroup.Action.ActionType.OUTPUT_REGEXP, LaunchGroup.Action.ActionType.NONE,
+                        LaunchGroup.Action.ActionType.OUTPUT_REGEXP, LaunchGroup.Action.ActionType.OUTPUT_REGEXP, LaunchGroup.Action.ActionType.NONE),
+                group.entries().stream().map(e -> e.action().type()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testPlannedGroupCycle() {
+        final var planner = LaunchGroupPlanner.create()
+                .service(LaunchGroupPlanner.service("a").dependsOn("b"))
+                .service(LaunchGroupPlanner.service("b").dependsOn("a"));
+        Assertions.assertThrows(IllegalArgumentException.class, planner::plan);
+    }
+
+    @Test
+    public void testWorkspaceFlatten() {
+        final var gradle = GradleLaunchConfig.builder("EclipseLaunchConfigs").tasks(":hello").build();
+        final var workspace = new LaunchWorkspace()
+                .register("prepare", gradle)
+                .register("client", gradle)
+                .register("server", gradle)
+                .register("setup", LaunchGroup.builder()
+                        .entry(LaunchGroup.entry("prepare").mode(LaunchGroup.Mode.RUN))
+                        .build())
+                .register("all", LaunchGroup.builder()
+                        .entry(LaunchGroup.entry("setup").action(LaunchGroup.Action.delay(5)))
+                        .entry(LaunchGroup.entry("client").mode(LaunchGroup.Mode.DEBUG))
+                        .entry(LaunchGroup.entry("setup"))
+                        .entry(LaunchGroup.entry("server").enabled(false))
+                        .build());
+
+        Assertions.assertTrue(workspace.validate().isEmpty());
+        final var flat = workspace.flatten("all");
+        Assertions.assertEquals(List.of("prepare", "client"), flat.entries().stream().map(LaunchGroup.Entry::name).collect(Collectors.toList()));
+        Assertions.assertEquals(LaunchGroup.Action.ActionType.DELAY, flat.entries().get(0).action().type());
+        Assertions.assertEquals(LaunchGroup.Mode.RUN, flat.entries().get(0).mode());
+        Assertions.assertEquals(1, flat.entries().get(1).index());
+    }
+
+    @Test
+    public void testWorkspaceFlattenDedupedGroupAction() {
+        final var gradle = GradleLaunchConfig.builder("EclipseLaunchConfigs").tasks(":hello").build();
+        final var workspace = new LaunchWorkspace()
+                .register("prepare", gradle)
+                .register("client", gradle)
+                .register("server", gradle)
+                .register("setup", LaunchGroup.builder().entry(LaunchGroup.entry("prepare")).build())
+                .register("all", LaunchGroup.builder()
+                        .entry(LaunchGroup.entry("prepare"))
+                        .entry(LaunchGroup.entry("client"))
+                        .entry(LaunchGroup.entry("setup").action(LaunchGroup.Action.waitForTermination()))
+                        .entry(LaunchGroup.entry("server"))
+                        .build());
+
+        // The entries of setup were all launched already, so the action moves to where prepare was launched.
+        final var flat = workspace.flatten("all");
+        Assertions.assertEquals(List.of("prepare", "client", "server"), flat.entries().stream().map(LaunchGroup.Entry::name).collect(Collectors.toList()));
+        Assertions.assertEquals(LaunchGroup.Action.ActionType.WAIT_FOR_TERMINATION, flat.entries().get(0).action().type());
+        Assertions.assertEquals(LaunchGroup.Action.ActionType.NONE, flat.entries().get(1).action().type());
+    }
+
+    @Test
+    public void testWorkspaceFlattenConflictingGroupAction() {
+        final var gradle = GradleLaunchConfig.builder("EclipseLaunchConfigs").tasks(":hello").build();
+        final var workspace = new LaunchWorkspace()
+                .register("prepare", gradle)
+                .register("client", gradle)
+                .register("setup", LaunchGroup.builder().entry(LaunchGroup.entry("prepare").action(LaunchGroup.Action.delay(5))).build())
+                .register("same", LaunchGroup.builder()
+                        .entry(LaunchGroup.entry("setup").action(LaunchGroup.Action.delay(5)))
+                        .entry(LaunchGroup.entry("client"))
+                        .build())
+                .register("all", LaunchGroup.builder()
+                        .entry(LaunchGroup.entry("setup").action(LaunchGroup.Action.waitForTermination()))
+                        .entry(LaunchGroup.entry("client"))
+                        .build());
+
+        Assertions.assertEquals(LaunchGroup.Action.ActionType.DELAY, workspace.flatten("same").entries().get(0).action().type());
+        // Keeping the delay would launch client before prepare terminates.
+        final var e = Assertions.assertThrows(IllegalArgumentException.class, () -> workspace.flatten("all"));
+        Assertions.assertTrue(e.getMessage().contains("WAIT_FOR_TERMINATION"), e.getMessage());
+    }
+
+    @Test
+    public void testWorkspaceFlattenDiamonds() {
+        final var gradle = GradleLaunchConfig.builder("EclipseLaunchConfigs").tasks(":hello").build();
+        final var workspace = new LaunchWorkspace().register("leaf", gradle);
+        // Every level reaches the next one through two groups, so the last level is reachable through 2^64 paths.
+        final int levels = 64;
+        workspace.register("level" + levels, LaunchGroup.builder().entry(LaunchGroup.entry("leaf")).build());
+        for (int i = levels - 1; i >= 0; i--) {
+            workspace.register("left" + i, LaunchGroup.builder().entry(LaunchGroup.entry("level" + (i + 1))).build());
+            workspace.register("right" + i, LaunchGroup.builder().entry(LaunchGroup.entry("level" + (i + 1))).build());
+            workspace.register("level" + i, LaunchGroup.builder().entry(LaunchGroup.entry("left" + i)).entry(LaunchGroup.entry("right" + i)).build());
+        }
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final var flat = workspace.flatten("level0");
+            Assertions.assertEquals(List.of("leaf"), flat.entries().stream().map(LaunchGroup.Entry::name).collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    public void testWorkspaceValidation() {
+        final var workspace = new LaunchWorkspace()
+                .register("a", LaunchGroup.builder().entry(LaunchGroup.entry("b")).build())
+                .register("b", LaunchGroup.builder().entry(LaunchGroup.entry("c")).entry(LaunchGroup.entry("a")).build())
+                .register("c", LaunchGroup.builder().entry(LaunchGroup.entry("missing")).build());
+
+        final var problems = workspace.validate();
+        Assertions.assertEquals(2, problems.size());
+        Assertions.assertEquals("c", problems.get(0).config());
+        Assertions.assertEquals("Launch group includes itself: a -> b -> a", problems.get(1).message());
+        Assertions.assertThrows(IllegalStateException.class, workspace::checkValid);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> workspace.flatten("a"));
+    }
 }
@@ -0,0 +1,27 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.EclipseVariables;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Main class launched in a fresh JVM by {@link StartupBenchmarkTest}, which writes a single launch config and reports the time it took.
+ */
+public class StartupBenchmarkMain {
+    public static void main(String[] args) throws Exception {
+        final long start = System.nanoTime();
+        final var config = JavaApplicationLaunchConfig.builder("EclipseLaunchConfigs")
+                .envVar("HOME_DIR", EclipseVariables.envVar("HOME"))
+                .workingDirectory(EclipseVariables.workspaceLocation("EclipseLaunchConfigs/run"))
+                .vmArgs("-Xmx256M")
+                .args("--doStuff=true")
+                .build("net.neoforged.elc.tests.Main");
+        try (Writer writer = Files.newBufferedWriter(Path.of(args[0]))) {
+            config.write(writer);
+        }
+        System.out.println("firstFileNanos=" + (System.nanoTime() - start));
+    }
+}
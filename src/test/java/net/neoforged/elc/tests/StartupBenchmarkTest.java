@@ -0,0 +1,59 @@
+package net.neoforged.elc.tests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to write the first launch config in a fresh JVM, which is what Gradle configuration pays on every cold daemon.
+ * <p>
+ * The first write used to take about 100ms, mostly spent looking up StAX providers and bootstrapping method references and string concatenation,
+ * and now takes about 25ms. Any one of those costs adds 30ms or more, so the target leaves headroom for slower machines while still catching
+ * a return of them. This spawns JVMs and measures wall-clock time, so it only runs with the benchmarks.
+ */
+@Tag("benchmark")
+public class StartupBenchmarkTest {
+    private static final int RUNS = 5;
+    private static final long TARGET_MILLIS = 35;
+
+    @Test
+    public void testTimeToFirstFile(@TempDir Path dir, TestReporter reporter) throws Exception {
+        final long[] firstFile = new long[RUNS];
+        final long[] process = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            final Path file = dir.resolve("run" + i + ".launch");
+            final long start = System.nanoTime();
+            firstFile[i] = run(file);
+            process[i] = System.nanoTime() - start;
+            Assertions.assertTrue(Files.readString(file).contains("net.neoforged.elc.tests.Main"));
+        }
+        Arrays.sort(firstFile);
+        Arrays.sort(process);
+
+        final long firstFileMillis = TimeUnit.NANOSECONDS.toMillis(firstFile[RUNS / 2]);
+        reporter.publishEntry("firstFileMillis", Long.toString(firstFileMillis));
+        reporter.publishEntry("processMillis", Long.toString(TimeUnit.NANOSECONDS.toMillis(process[RUNS / 2])));
+        Assertions.assertTrue(firstFileMillis <= TARGET_MILLIS, "Time to first file was " + firstFileMillis + "ms, target is " + TARGET_MILLIS + "ms");
+    }
+
+    private static long run(Path file) throws IOException, InterruptedException {
+        final var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        final var process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), StartupBenchmarkMain.class.getName(), file.toString())
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        final var output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        Assertions.assertTrue(process.waitFor(30, TimeUnit.SECONDS), "Benchmark process did not exit");
+        Assertions.assertEquals(0, process.exitValue(), output);
+        Assertions.assertTrue(output.startsWith("firstFileNanos="), output);
+        return Long.parseLong(output.substring("firstFileNanos=".length()));
+    }
+}
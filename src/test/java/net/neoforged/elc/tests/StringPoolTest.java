@@ -0,0 +1,91 @@
+package net.neoforged.elc.tests;
+
+import net.neoforged.elc.attributes.EValue;
+import net.neoforged.elc.configs.JavaApplicationLaunchConfig;
+import net.neoforged.elc.util.StringPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class StringPoolTest {
+    @Test
+    public void testSessionsRestorePreviousPool() {
+        Assertions.assertNull(StringPool.active());
+        final var outer = new StringPool();
+        final var inner = new StringPool();
+        try (final var outerSession = outer.install()) {
+            Assertions.assertSame(outer, StringPool.active());
+            Assertions.assertSame(outer, outerSession.pool());
+            try (final var innerSession = inner.install()) {
+                Assertions.assertSame(inner, StringPool.active());
+            }
+            Assertions.assertSame(outer, StringPool.active());
+        }
+        Assertions.assertNull(StringPool.active());
+    }
+
+    @Test
+    public void testDeduplicatesOnlyWhileActive() {
+        final String a = new String("EclipseLaunchConfigs");
+        final String b = new String("EclipseLaunchConfigs");
+
+        Assertions.assertNotSame(EValue.of(a).value(), EValue.of(b).value());
+        Assertions.assertNotSame(builder(a).project(), builder(b).project());
+
+        final var pool = new StringPool();
+        try (final var session = pool.install()) {
+            Assertions.assertSame(EValue.of(a).value(), EValue.of(b).value());
+            final var first = builder(a);
+            final var second = builder(b);
+            Assertions.assertSame(first.project(), second.project());
+            Assertions.assertSame(first.vmArguments().get(0), second.vmArguments().get(0));
+        }
+        // The project, the VM argument and the main class.
+        Assertions.assertEquals(3, pool.size());
+
+        // Strings created after the session ended are no longer routed through the pool.
+        Assertions.assertNotSame(EValue.of(new String("-Xmx1G")).value(), EValue.of(new String("-Xmx1G")).value());
+    }
+
+    private static JavaApplicationLaunchConfig builder(String project) {
+        return JavaApplicationLaunchConfig.builder(project).vmArgs(new String("-Xmx1G")).build("net.neoforged.elc.tests.Main");
+    }
+
+    @Test
+    public void testSharedAcrossThreads() throws Exception {
+        final var pool = new StringPool();
+        final int threads = 8;
+        final var start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    final List<String> interned = new ArrayList<>();
+                    try (final var session = pool.install()) {
+                        start.await();
+                        for (int i = 0; i < 1000; i++) interned.add(EValue.of(new String("value" + i)).value());
+                    }
+                    Assertions.assertNull(StringPool.active());
+                    return interned;
+                }));
+            }
+            start.countDown();
+
+            final List<String> first = results.get(0).get();
+            for (final var result : results) {
+                final List<String> interned = result.get();
+                for (int i = 0; i < interned.size(); i++) Assertions.assertSame(first.get(i), interned.get(i));
+            }
+            Assertions.assertEquals(1000, pool.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}